@@ -0,0 +1,64 @@
+package top.nulldns.subdns.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시나리오별 응답 시간 기록 (클라이언트 스레드마다 따로 기록 후 합산)
+ */
+public class LatencyRecorder {
+    private final String name;
+    private final long[][] samples;
+    private final int[] counts;
+    private final AtomicLong errors = new AtomicLong();
+
+    private long startedAt;
+    private long finishedAt;
+
+    public LatencyRecorder(String name, int clients, int requestsPerClient) {
+        this.name = name;
+        this.samples = new long[clients][requestsPerClient];
+        this.counts = new int[clients];
+    }
+
+    public void start() {
+        startedAt = System.nanoTime();
+    }
+
+    public void finish() {
+        finishedAt = System.nanoTime();
+    }
+
+    // 클라이언트 번호별 배열에만 쓰므로 동기화 불필요 (합산은 모든 클라이언트 종료 후)
+    public void record(int client, long nanos, boolean success) {
+        samples[client][counts[client]++] = nanos;
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    public String report() {
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int i = 0; i < samples.length; i++) {
+            System.arraycopy(samples[i], 0, all, offset, counts[i]);
+            offset += counts[i];
+        }
+        Arrays.sort(all);
+
+        double seconds = (finishedAt - startedAt) / 1e9;
+        return String.format("%-20s n=%-7d err=%-6d %8.1f req/s  p50=%7.2fms  p90=%7.2fms  p99=%7.2fms  max=%7.2fms",
+                name, total, errors.get(), total / Math.max(seconds, 1e-9),
+                percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99),
+                total == 0 ? 0 : all[total - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
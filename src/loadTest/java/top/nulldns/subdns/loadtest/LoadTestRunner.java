@@ -0,0 +1,225 @@
+package top.nulldns.subdns.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+import top.nulldns.subdns.SubDNSScheduler;
+import top.nulldns.subdns.SubDnsApplication;
+import top.nulldns.subdns.dao.Member;
+import top.nulldns.subdns.repository.HaveSubDomainRepository;
+import top.nulldns.subdns.service.domain.AccessTokenService;
+import top.nulldns.subdns.service.domain.MemberService;
+import top.nulldns.subdns.service.facade.CacheWarmupService;
+
+import java.net.CookieManager;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트 실행기 (./gradlew loadTest)
+ * H2 + 내장 Redis + PowerDNS 스텁으로 앱을 띄운 뒤 가상 스레드 클라이언트로 API 호출, p50/p99 와 처리량 출력
+ *
+ * 설정 (-Dloadtest.xxx=값)
+ * - clients (64), requests (200)        : 클라이언트 수, 클라이언트당 요청 수
+ * - pdns.latency-ms (5), pdns.jitter-ms (5), pdns.error-rate (0.01)
+ * - scheduler.runs (6)                  : 마지막에 직접 실행할 PENDING 스케줄러 회차
+ * - virtual-threads (true)              : false 면 Tomcat 플랫폼 스레드 풀로 요청 처리 (비교용)
+ */
+public class LoadTestRunner {
+    private static final String ZONE = "nulldns.top";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("loadtest.clients", 64);
+        int requests = Integer.getInteger("loadtest.requests", 200);
+        int schedulerRuns = Integer.getInteger("loadtest.scheduler.runs", 6);
+        long latencyMs = Long.getLong("loadtest.pdns.latency-ms", 5);
+        long jitterMs = Long.getLong("loadtest.pdns.jitter-ms", 5);
+        double errorRate = Double.parseDouble(System.getProperty("loadtest.pdns.error-rate", "0.01"));
+
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+
+        try (PowerDnsStub pdns = new PowerDnsStub(latencyMs, jitterMs, errorRate);
+             ConfigurableApplicationContext context = startApplication(redisPort, pdns)) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://127.0.0.1:" + port;
+            String token = createMemberToken(context);
+
+            System.out.printf("%nsub-dns load test: clients=%d requests/client=%d pdns latency=%d+%dms error-rate=%.3f%n%n",
+                    clients, requests, latencyMs, jitterMs, errorRate);
+
+            List<String> reports = new ArrayList<>();
+            reports.add(runAvailableDomains(baseUrl, clients, requests));
+            reports.add(runAddRecord(baseUrl, token, clients, requests));
+            reports.add(runScheduler(context, schedulerRuns));
+
+            reports.forEach(System.out::println);
+            System.out.printf("%npdns stub: patches=%d rrsets=%d injected-errors=%d served-rrsets=%d%n",
+                    pdns.getPatches(), pdns.getPatchedRrsets(), pdns.getInjectedErrors(), pdns.getRrsetCount());
+        } finally {
+            redis.stop();
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(int redisPort, PowerDnsStub pdns) {
+        pdns.addZone(ZONE);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MariaDB;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.data.redis.host", "127.0.0.1");
+        properties.put("spring.data.redis.port", String.valueOf(redisPort));
+        properties.put("spring.security.oauth2.client.registration.github.client-id", "loadtest");
+        properties.put("spring.security.oauth2.client.registration.github.client-secret", "loadtest");
+        properties.put("pdns.url", pdns.baseUrl());
+        properties.put("pdns.api-key", "loadtest");
+        properties.put("pdns.zone-snapshot-path", "");
+        properties.put("storage.static-url", "/");
+        properties.put("rate-limit.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.threads.virtual.enabled", System.getProperty("loadtest.virtual-threads", "true"));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SubDnsApplication.class)
+                .properties(properties)
+                .run();
+
+        // 캐시는 백그라운드에서 채워지므로 준비될 때까지 대기
+        CacheWarmupService warmup = context.getBean(CacheWarmupService.class);
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!warmup.isReady()) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("캐시 준비 시간 초과");
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        return context;
+    }
+
+    private static String createMemberToken(ConfigurableApplicationContext context) {
+        MemberService memberService = context.getBean(MemberService.class);
+        Member member = memberService.loginOrSignup("loadtest", "1");
+        memberService.updateMaxRecords(member.getId(), Integer.MAX_VALUE);
+
+        return context.getBean(AccessTokenService.class).issue(memberService.getMemberById(member.getId()), "loadtest");
+    }
+
+    // 비로그인 사용자의 도메인 검색 (클라이언트마다 세션 쿠키 유지)
+    private static String runAvailableDomains(String baseUrl, int clients, int requests) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder("available-domains", clients, requests);
+        recorder.start();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                executor.submit(() -> {
+                    HttpClient http = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+                    for (int i = 0; i < requests; i++) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/available-domains/look" + client + "x" + i))
+                                .header("Accept", "application/json")
+                                .timeout(REQUEST_TIMEOUT)
+                                .GET()
+                                .build();
+                        call(http, request, recorder, client);
+                    }
+                    return null;
+                });
+            }
+        }
+        recorder.finish();
+        return recorder.report();
+    }
+
+    // 접근 토큰으로 레코드 추가 (매 요청 새 서브도메인)
+    private static String runAddRecord(String baseUrl, String token, int clients, int requests) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder("add-record", clients, requests);
+        recorder.start();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                executor.submit(() -> {
+                    HttpClient http = HttpClient.newHttpClient();
+                    for (int i = 0; i < requests; i++) {
+                        String body = String.format("{\"subDomain\":\"load%dx%d\",\"zone\":\"%s\",\"type\":\"A\",\"content\":\"10.%d.%d.%d\"}",
+                                client, i, ZONE, client % 256, i / 256 % 256, i % 256);
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/add-record"))
+                                .header("Authorization", "Bearer " + token)
+                                .header("Content-Type", "application/json")
+                                .header("Accept", "application/json")
+                                .timeout(REQUEST_TIMEOUT)
+                                .POST(HttpRequest.BodyPublishers.ofString(body))
+                                .build();
+                        call(http, request, recorder, client);
+                    }
+                    return null;
+                });
+            }
+        }
+        recorder.finish();
+        return recorder.report();
+    }
+
+    // PDNS 반영 실패로 남은 PENDING 행을 스케줄러로 처리
+    private static String runScheduler(ConfigurableApplicationContext context, int runs) {
+        SubDNSScheduler scheduler = context.getBean(SubDNSScheduler.class);
+        HaveSubDomainRepository repository = context.getBean(HaveSubDomainRepository.class);
+
+        LatencyRecorder recorder = new LatencyRecorder("scheduler(pending)", 1, runs);
+        recorder.start();
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            boolean success = true;
+            try {
+                scheduler.pendingDomain();
+            } catch (Exception e) {
+                success = false;
+            }
+            recorder.record(0, System.nanoTime() - start, success);
+        }
+        recorder.finish();
+
+        long remaining = repository.countByDomainStatus().stream()
+                .filter(row -> !"ACTIVE".equals(String.valueOf(row[0])))
+                .mapToLong(row -> (Long) row[1])
+                .sum();
+        return recorder.report() + "  pending-left=" + remaining;
+    }
+
+    private static void call(HttpClient http, HttpRequest request, LatencyRecorder recorder, int client) {
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() < 400;
+        } catch (Exception e) {
+            success = false;
+        }
+        recorder.record(client, System.nanoTime() - start, success);
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
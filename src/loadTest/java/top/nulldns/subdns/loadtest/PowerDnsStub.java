@@ -0,0 +1,230 @@
+package top.nulldns.subdns.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PowerDNS HTTP API 중 앱이 사용하는 부분만 구현한 스텁 (메모리 저장)
+ * - GET/POST .../zones, GET/PATCH/DELETE .../zones/{zone}
+ * - 모든 요청에 지연(latencyMs + 0~jitterMs), 쓰기 요청에 errorRate 확률로 500 응답
+ */
+public class PowerDnsStub implements AutoCloseable {
+    private static final Pattern ZONES_PATH = Pattern.compile(".*/zones/?([^/]*)$");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Zone> zones = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double errorRate;
+
+    private final AtomicLong patches = new AtomicLong();
+    private final AtomicLong patchedRrsets = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    public PowerDnsStub(long latencyMs, long jitterMs, double errorRate) throws IOException {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.errorRate = errorRate;
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    /**
+     * 앱의 pdns.url 로 사용할 주소
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1/servers/localhost/";
+    }
+
+    public void addZone(String zone) {
+        zones.putIfAbsent(trimDot(zone), new Zone());
+    }
+
+    public long getPatches() {
+        return patches.get();
+    }
+
+    public long getPatchedRrsets() {
+        return patchedRrsets.get();
+    }
+
+    public long getInjectedErrors() {
+        return injectedErrors.get();
+    }
+
+    public int getRrsetCount() {
+        return zones.values().stream().mapToInt(zone -> zone.rrsets.size()).sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            Matcher matcher = ZONES_PATH.matcher(exchange.getRequestURI().getPath());
+            if (!matcher.matches()) {
+                send(exchange, 404, null);
+                return;
+            }
+            String zoneName = trimDot(URLDecoder.decode(matcher.group(1), StandardCharsets.UTF_8));
+            String method = exchange.getRequestMethod();
+
+            delay();
+            if (!"GET".equals(method) && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                injectedErrors.incrementAndGet();
+                send(exchange, 500, Map.of("error", "injected"));
+                return;
+            }
+
+            if (zoneName.isEmpty()) {
+                switch (method) {
+                    case "GET" -> send(exchange, 200, listZones());
+                    case "POST" -> {
+                        JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+                        addZone(body.path("name").asText());
+                        send(exchange, 201, null);
+                    }
+                    default -> send(exchange, 405, null);
+                }
+                return;
+            }
+
+            Zone zone = zones.get(zoneName);
+            if (zone == null) {
+                send(exchange, 404, Map.of("error", "Could not find domain '" + zoneName + "'"));
+                return;
+            }
+
+            switch (method) {
+                case "GET" -> send(exchange, 200, zone.toJson(zoneName, exchange.getRequestURI().getQuery()));
+                case "PATCH" -> {
+                    patch(zone, objectMapper.readTree(exchange.getRequestBody()));
+                    send(exchange, 204, null);
+                }
+                case "DELETE" -> {
+                    zones.remove(zoneName);
+                    send(exchange, 204, null);
+                }
+                default -> send(exchange, 405, null);
+            }
+        } catch (Exception e) {
+            send(exchange, 500, Map.of("error", String.valueOf(e.getMessage())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void patch(Zone zone, JsonNode body) {
+        int count = 0;
+        for (JsonNode rrset : body.path("rrsets")) {
+            String key = rrset.path("name").asText().toLowerCase() + "|" + rrset.path("type").asText();
+            if ("DELETE".equals(rrset.path("changetype").asText())) {
+                zone.rrsets.remove(key);
+            } else {
+                List<String> contents = new ArrayList<>();
+                rrset.path("records").forEach(record -> contents.add(record.path("content").asText()));
+                zone.rrsets.put(key, new StoredRrset(rrset.path("name").asText(), rrset.path("type").asText(),
+                        rrset.path("ttl").asInt(3600), contents));
+            }
+            count++;
+        }
+        zone.serial.incrementAndGet();
+        patches.incrementAndGet();
+        patchedRrsets.addAndGet(count);
+    }
+
+    private List<Map<String, Object>> listZones() {
+        List<Map<String, Object>> list = new ArrayList<>();
+        zones.forEach((name, zone) -> list.add(Map.of("name", name + ".", "kind", "Native", "serial", zone.serial.get())));
+        return list;
+    }
+
+    private void delay() throws InterruptedException {
+        long millis = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String trimDot(String name) {
+        return name.endsWith(".") ? name.substring(0, name.length() - 1) : name;
+    }
+
+    private record StoredRrset(String name, String type, int ttl, List<String> contents) {
+        private Map<String, Object> toJson() {
+            List<Map<String, Object>> records = new ArrayList<>();
+            for (String content : contents) {
+                records.add(Map.of("content", content, "disabled", false));
+            }
+            return Map.of("name", name, "type", type, "ttl", ttl, "records", records);
+        }
+    }
+
+    private static class Zone {
+        private final Map<String, StoredRrset> rrsets = new ConcurrentHashMap<>();
+        private final AtomicLong serial = new AtomicLong(1);
+
+        private Map<String, Object> toJson(String zoneName, String query) {
+            Map<String, String> params = new HashMap<>();
+            if (query != null) {
+                for (String pair : query.split("&")) {
+                    int eq = pair.indexOf('=');
+                    if (eq > 0) {
+                        params.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+                    }
+                }
+            }
+            String rrsetName = params.get("rrset_name");
+            String rrsetType = params.get("rrset_type");
+
+            List<Map<String, Object>> list = new ArrayList<>();
+            for (StoredRrset rrset : rrsets.values()) {
+                if (rrsetName != null && !rrsetName.equalsIgnoreCase(rrset.name())) continue;
+                if (rrsetType != null && !rrsetType.equals(rrset.type())) continue;
+                list.add(rrset.toJson());
+            }
+            return Map.of("name", zoneName + ".", "serial", serial.get(), "rrsets", list);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package top.nulldns.subdns.loadtest;
+
+import redis.embedded.RedisServer;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 시작 시간 비교 (./gradlew startupBenchmark, AOT/CDS/native 는 -Paot 로 먼저 빌드)
+ * 실행 방식마다 앱 프로세스를 여러 번 띄워 readiness 가 UP 이 될 때까지 걸린 시간과 Spring 이 보고한 시작 시간을 출력
+ * H2 + 내장 Redis + PowerDNS 스텁을 사용하므로 외부 의존성 없음
+ *
+ * 설정 (-Dloadtest.xxx=값)
+ * - runs (5)       : 실행 방식별 반복 횟수
+ * - jar, cds-dir, native : 산출물 경로 (gradle 태스크가 지정, 없는 방식은 건너뜀)
+ */
+public class StartupBenchmark {
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+    private static final Duration READY_TIMEOUT = Duration.ofMinutes(2);
+    private static final String CDS_ARCHIVE = "application.jsa";
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("loadtest.runs", 5);
+        Path jar = Path.of(System.getProperty("loadtest.jar"));
+        Path cdsDir = Path.of(System.getProperty("loadtest.cds-dir"));
+        Path nativeImage = Path.of(System.getProperty("loadtest.native"));
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+        List<Mode> modes = new ArrayList<>();
+        modes.add(new Mode("jvm", List.of(java, "-jar", jar.toString()), null, Files.isRegularFile(jar)));
+        modes.add(new Mode("aot+cds", List.of(java, "-XX:SharedArchiveFile=" + CDS_ARCHIVE, "-Dspring.aot.enabled=true", "-jar", jar.getFileName().toString()),
+                cdsDir.toFile(), Files.isRegularFile(cdsDir.resolve(CDS_ARCHIVE))));
+        modes.add(new Mode("native", List.of(nativeImage.toString()), null, Files.isExecutable(nativeImage)));
+
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        List<String> reports = new ArrayList<>();
+        try (PowerDnsStub pdns = new PowerDnsStub(0, 0, 0)) {
+            pdns.addZone("nulldns.top");
+
+            for (Mode mode : modes) {
+                if (!mode.available) {
+                    reports.add(String.format("%-8s 건너뜀 (산출물 없음 - ./gradlew -Paot %s)", mode.name,
+                            mode.name.equals("native") ? "nativeCompile" : "cdsArchive"));
+                    continue;
+                }
+
+                long[] readyMillis = new long[runs];
+                double[] startedSeconds = new double[runs];
+                for (int i = 0; i < runs; i++) {
+                    Result result = startOnce(mode, redisPort, pdns.baseUrl(), httpClient, i);
+                    readyMillis[i] = result.readyMillis;
+                    startedSeconds[i] = result.startedSeconds;
+                    System.out.printf("%s #%d: ready %dms (Spring 보고 %.3fs)%n", mode.name, i + 1, result.readyMillis, result.startedSeconds);
+                }
+                reports.add(summary(mode.name, readyMillis, startedSeconds));
+            }
+        } finally {
+            redis.stop();
+        }
+
+        System.out.printf("%n%-8s %10s %10s %10s %14s%n", "mode", "p50(ms)", "min(ms)", "max(ms)", "spring p50(s)");
+        reports.forEach(System.out::println);
+    }
+
+    private static Result startOnce(Mode mode, int redisPort, String pdnsUrl, HttpClient httpClient, int run) throws Exception {
+        int managementPort = freePort();
+        List<String> command = new ArrayList<>(mode.command);
+        command.addAll(List.of(
+                "--server.port=0",
+                "--management.server.port=" + managementPort,
+                "--spring.datasource.url=jdbc:h2:mem:startup" + run + ";MODE=MariaDB;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.data.redis.host=127.0.0.1",
+                "--spring.data.redis.port=" + redisPort,
+                "--spring.security.oauth2.client.registration.github.client-id=benchmark",
+                "--spring.security.oauth2.client.registration.github.client-secret=benchmark",
+                "--pdns.url=" + pdnsUrl,
+                "--pdns.api-key=benchmark",
+                "--pdns.zone-snapshot-path=",
+                "--storage.static-url=/"
+        ));
+
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+        if (mode.workingDir != null) {
+            builder.directory(mode.workingDir);
+        }
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        AtomicReference<Double> started = new AtomicReference<>(Double.NaN);
+        Thread.ofVirtual().start(() -> readStartedLine(process, started));
+
+        HttpRequest readiness = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + managementPort + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(1))
+                .build();
+        try {
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.name + " 프로세스가 준비 전에 종료됨 (exit " + process.exitValue() + ")");
+                }
+                if (System.nanoTime() - start > READY_TIMEOUT.toNanos()) {
+                    throw new IllegalStateException(mode.name + " 준비 시간 초과");
+                }
+                try {
+                    if (httpClient.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        break;
+                    }
+                } catch (IOException ignored) {    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(20);
+            }
+            return new Result(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), started.get());
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    // 앱 로그를 계속 비워야 프로세스가 출력 버퍼에서 멈추지 않음
+    private static void readStartedLine(Process process, AtomicReference<Double> started) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    started.set(Double.parseDouble(matcher.group(1)));
+                }
+            }
+        } catch (Exception ignored) {
+        }
+    }
+
+    private static String summary(String name, long[] readyMillis, double[] startedSeconds) {
+        long[] ready = readyMillis.clone();
+        double[] spring = startedSeconds.clone();
+        Arrays.sort(ready);
+        Arrays.sort(spring);
+        return String.format("%-8s %10d %10d %10d %14.3f", name, ready[ready.length / 2], ready[0], ready[ready.length - 1], spring[spring.length / 2]);
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Mode(String name, List<String> command, File workingDir, boolean available) {
+    }
+
+    private record Result(long readyMillis, double startedSeconds) {
+    }
+}
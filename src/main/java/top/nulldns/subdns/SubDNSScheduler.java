@@ -1,5 +1,7 @@
 package top.nulldns.subdns;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.ConcurrencyFailureException;
@@ -7,8 +9,11 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import top.nulldns.subdns.config.finalconfig.Status;
 import top.nulldns.subdns.dao.HaveSubDomain;
+import top.nulldns.subdns.dto.ExpiryCleanupProgressDto;
 import top.nulldns.subdns.service.domain.HaveSubDomainService;
+import top.nulldns.subdns.service.facade.ExpiryCleanupService;
 import top.nulldns.subdns.service.facade.PDNSService;
+import top.nulldns.subdns.service.facade.PendingBacklogService;
 import top.nulldns.subdns.service.infra.LockService;
 import top.nulldns.subdns.service.infra.StatusRegistryService;
 
@@ -23,26 +28,43 @@ import java.util.List;
 public class SubDNSScheduler {
     private final HaveSubDomainService haveSubDomainService;
     private final PDNSService pdnsService;
+    private final ExpiryCleanupService expiryCleanupService;
     private final LockService lockService;
     private final StatusRegistryService statusRegistryService;
+    private final MeterRegistry meterRegistry;
+    private final PendingBacklogService pendingBacklogService;
     // SubDnsProperties는 필요시 추가
     
     private static final Status[] STATUSES = { Status.ADD_PENDING, Status.UPDATE_PENDING, Status.DELETE_PENDING };
 
     private static final String LOCK_KEY_PREFIX = "scheduler:";
     private static final String STATUS_IDX = "scheduler:statusIdx";
+    private static final Duration EXPIRY_LOCK_TTL = Duration.ofHours(1);
 
     @Scheduled(cron = "0 5 0 * * *")
     public void deleteExpiryDomain() {
         log.info("Processing expired domain delete");
         String lockKey = LOCK_KEY_PREFIX + "expiry";
-        String value = lockService.lock(lockKey);
+        String value = null;
+        try {
+            value = lockService.lock(lockKey, EXPIRY_LOCK_TTL);
+        } catch (ConcurrencyFailureException e) {   // 다른 VM에서 처리중
+            return;
+        }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
+        ExpiryCleanupProgressDto result = null;
         try {
-            runDeleteExpiryDomain();
+            result = runDeleteExpiryDomain();
+            success = true;
         } catch (Exception e) {
             log.error("만료 도메인 제거 에러" + e);
         } finally {
+            long durationNanos = sample.stop(runTimer("expiry-cleanup", success));
+            if (result != null) {
+                pendingBacklogService.recordRun("expiry-cleanup", Duration.ofNanos(durationNanos).toMillis(), result.scanned(), result.deleted());
+            }
             lockService.unlock(lockKey, value);
         }
     }
@@ -50,7 +72,7 @@ public class SubDNSScheduler {
     @Scheduled(cron = "0 0/1 * * * *")
     public void pendingDomain() {
         // LOCK
-        String lockKey = LOCK_KEY_PREFIX + "pending";
+        String lockKey = PendingBacklogService.PENDING_LOCK_KEY;   // 관리자 즉시 처리와 같은 락
         String lockValue = null;
         try {
             lockValue = lockService.lock(lockKey, Duration.ofDays(3600));
@@ -76,12 +98,22 @@ public class SubDNSScheduler {
         Status status = STATUSES[idx];
 
         // 실제 작업 시작
+        String job = status.name().toLowerCase().replace('_', '-');
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
+        int rows = 0, successes = 0;
         try {
             List<HaveSubDomain> targetSubDomains = haveSubDomainService.getAvailableSubDomains(status);
+            rows = targetSubDomains.size();
             if (!targetSubDomains.isEmpty()) {
-                pdnsService.modifyPendingRecords(targetSubDomains, status);
+                successes = pdnsService.modifyPendingRecords(targetSubDomains, status);
             }
+            meterRegistry.counter("subdns.scheduler.rows", "job", job).increment(rows);
+            success = true;
         } finally {
+            long durationNanos = sample.stop(runTimer(job, success));
+            pendingBacklogService.recordRun(job, Duration.ofNanos(durationNanos).toMillis(), rows, successes);
+
             // 다음 작업을 위해 STATUS_IDX 증가시키고 LOCK 해제
             if (idx + 1 >= STATUSES.length) {
                 statusRegistryService.setStatus(STATUS_IDX, "0");
@@ -92,23 +124,21 @@ public class SubDNSScheduler {
         }
     }
 
-    private void runDeleteExpiryDomain() {
-        log.info("만료된 서브도메인 삭제 시작");
-
-        LocalDate localDate = LocalDate.now();
-        int deleted = 0;
-
-        while(true) {
-            List<HaveSubDomain> deleteDomains = haveSubDomainService.getExpiredSubDomains(localDate, 500);
+    // job: add-pending, update-pending, delete-pending, expiry-cleanup
+    private Timer runTimer(String job, boolean success) {
+        return Timer.builder("subdns.scheduler.run")
+                .tag("job", job)
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry);
+    }
 
-            if (deleteDomains.isEmpty()) {
-                break;
-            }
+    private ExpiryCleanupProgressDto runDeleteExpiryDomain() {
+        log.info("만료된 서브도메인 삭제 시작");
 
-            pdnsService.deleteSubRecords(deleteDomains);
-            deleted += deleteDomains.size();
-        }
+        ExpiryCleanupProgressDto result = expiryCleanupService.run(LocalDate.now());
+        meterRegistry.counter("subdns.scheduler.rows", "job", "expiry-cleanup").increment(result.deleted() + result.failed());
 
-        log.info("만료된 서브도메인 삭제 완료: {}개", deleted);
+        log.info("만료된 서브도메인 삭제 완료: {}개 (실패 {}개)", result.deleted(), result.failed());
+        return result;
     }
 }
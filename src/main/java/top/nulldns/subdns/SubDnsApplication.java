@@ -5,13 +5,30 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.util.Map;
+
 @SpringBootApplication
 @EnableScheduling
 @ConfigurationPropertiesScan
 public class SubDnsApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(SubDnsApplication.class, args);
+        SpringApplication application = new SpringApplication(SubDnsApplication.class);
+
+        // 외부 설정에 값이 없을 때만 적용되는 기본값
+        application.setDefaultProperties(Map.of(
+                "management.server.port", "9091",   // 메트릭은 내부 포트로만 수집
+                "management.endpoints.web.exposure.include", "health,prometheus",
+                "management.metrics.tags.application", "sub-dns",
+                // /actuator/health/readiness 는 캐시(존, 관리자 목록)가 채워진 뒤에 UP
+                "management.endpoint.health.probes.enabled", "true",
+                "management.endpoint.health.group.readiness.include", "readinessState,cacheWarmupService",
+                // 요청 처리를 가상 스레드로 (JDBC, Redis, PDNS 대기 중에 스레드를 점유하지 않음 - 동시성 상한은 커넥션 풀)
+                "spring.threads.virtual.enabled", "true",
+                // 리버스 프록시(내부망 주소)가 넘긴 X-Forwarded-For 로 클라이언트 IP 결정 (DDNS myip 생략 시, 요청 제한 키)
+                "server.forward-headers-strategy", "native"
+        ));
+        application.run(args);
     }
 
 }
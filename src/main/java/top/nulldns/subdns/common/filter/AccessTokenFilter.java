@@ -0,0 +1,128 @@
+package top.nulldns.subdns.common.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import top.nulldns.subdns.dto.AccessTokenOwnerDto;
+import top.nulldns.subdns.service.domain.AccessTokenService;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Authorization: Bearer ndp_... 요청 인증
+ * Redis 세션 필터 바로 뒤(시큐리티 필터 앞)에서 실행되어 getSession 을 요청 전용 세션으로 바꿔치기함
+ * -> Redis 세션 래퍼의 getSession 이 호출되지 않으므로 세션 조회/저장 없음
+ * 토큰으로는 레코드 관련 API 만 호출 가능 (회원 탈퇴, 토큰/갱신 토큰 발급 등은 로그인 세션 전용)
+ */
+@RequiredArgsConstructor
+public class AccessTokenFilter extends OncePerRequestFilter {
+    public static final String TOKEN_ID_ATTR = AccessTokenFilter.class.getName() + ".TOKEN_ID";
+
+    private static final String BEARER = "Bearer ";
+
+    private static final PathPatternRequestMatcher.Builder PATHS = PathPatternRequestMatcher.withDefaults();
+    private static final RequestMatcher TOKEN_ALLOWED = new OrRequestMatcher(
+            PATHS.matcher("/api/me"),
+            PATHS.matcher("/api/my-domains"),
+            PATHS.matcher("/api/get-records/**"),
+            PATHS.matcher("/api/available-domains/**"),
+            PATHS.matcher("/api/add-record"),
+            PATHS.matcher("/api/add-records"),
+            PATHS.matcher("/api/update-record/**"),
+            PATHS.matcher("/api/delete-record/**"),
+            PATHS.matcher("/api/record-events"),
+            PATHS.matcher("/api/acme/**")
+    );
+
+    private final AccessTokenService accessTokenService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER + AccessTokenService.TOKEN_PREFIX)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!TOKEN_ALLOWED.matches(request)) {
+            writeError(response, HttpServletResponse.SC_FORBIDDEN, "Forbidden", "접근 토큰으로 호출할 수 없는 API 입니다.");
+            return;
+        }
+
+        Optional<AccessTokenOwnerDto> resolved = accessTokenService.resolve(authorization.substring(BEARER.length()).trim());
+        if (resolved.isEmpty()) {
+            writeError(response, HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized", "유효하지 않은 토큰입니다.");
+            return;
+        }
+
+        AccessTokenOwnerDto owner = resolved.get();
+        if (owner.banned()) {
+            writeError(response, HttpServletResponse.SC_FORBIDDEN, "Forbidden", "정지된 계정입니다.");
+            return;
+        }
+
+        TokenSession session = new TokenSession(request.getServletContext());
+        session.setAttribute("id", owner.userId());
+        session.setAttribute("memberId", owner.memberId());
+        session.setAttribute(
+                HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(
+                        owner.userId(), null, List.of(new SimpleGrantedAuthority("ROLE_TOKEN"))
+                ))
+        );
+
+        request.setAttribute(TOKEN_ID_ATTR, owner.tokenId());
+
+        filterChain.doFilter(new TokenSessionRequest(request, session), response);
+    }
+
+    private static void writeError(HttpServletResponse response, int status, String error, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"error\": \"" + error + "\", \"message\": \"" + message + "\"}");
+    }
+
+    private static class TokenSessionRequest extends HttpServletRequestWrapper {
+        private final TokenSession session;
+
+        private TokenSessionRequest(HttpServletRequest request, TokenSession session) {
+            super(request);
+            this.session = session;
+        }
+
+        @Override
+        public HttpSession getSession(boolean create) {
+            return session;
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return session;
+        }
+
+        @Override
+        public String changeSessionId() {
+            return session.getId();
+        }
+
+        @Override
+        public boolean isRequestedSessionIdValid() {
+            return false;
+        }
+    }
+}
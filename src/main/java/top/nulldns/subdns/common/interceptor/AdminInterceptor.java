@@ -2,25 +2,21 @@ package top.nulldns.subdns.common.interceptor;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
-import top.nulldns.subdns.service.domain.CheckAdminService;
+import top.nulldns.subdns.common.principal.RequestPrincipal;
 
 @Component
 @RequiredArgsConstructor
 public class AdminInterceptor implements HandlerInterceptor {
 
-    private final CheckAdminService checkAdminService;
+    private final RequestPrincipal requestPrincipal;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        HttpSession session = request.getSession(false);
-        Long memberId = (session != null) ? (Long) session.getAttribute("memberId") : null;
-
-        if (memberId == null || !checkAdminService.isAdmin(memberId)) {
+        if (!requestPrincipal.isAdmin()) {
             String acceptHeader = request.getHeader("Accept");
             
             // API 요청인 경우 403 Forbidden 반환
@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import top.nulldns.subdns.common.principal.RequestPrincipal;
 import top.nulldns.subdns.dao.Member;
 import top.nulldns.subdns.service.domain.MemberService;
 
@@ -14,19 +15,25 @@ import top.nulldns.subdns.service.domain.MemberService;
 public class BannedInterceptor implements HandlerInterceptor {
 
     private final MemberService memberService;
+    private final RequestPrincipal requestPrincipal;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        HttpSession session = request.getSession(false);
-        if (session != null) {
-            Long memberId = (Long) session.getAttribute("memberId");
-            if (memberId != null) {
-                Member member = memberService.getMemberById(memberId);
-                if (member.isBanned()) {
+        // 토큰 인증 요청은 AccessTokenFilter 에서 정지 여부 확인함
+        if (requestPrincipal.isTokenAuthenticated()) {
+            return true;
+        }
+
+        Long memberId = requestPrincipal.getMemberId();
+        if (memberId != null) {
+            Member member = memberService.getMemberById(memberId);
+            if (member.isBanned()) {
+                HttpSession session = request.getSession(false);
+                if (session != null) {
                     session.invalidate();
-                    response.sendRedirect("/banned");
-                    return false;
                 }
+                response.sendRedirect("/banned");
+                return false;
             }
         }
         return true;
@@ -0,0 +1,65 @@
+package top.nulldns.subdns.common.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import top.nulldns.subdns.common.principal.RequestPrincipal;
+import top.nulldns.subdns.service.infra.RateLimitService;
+
+/**
+ * 엔드포인트별 요청 제한 - 로그인 회원은 memberId, 비로그인은 IP 기준 (DB 조회 없음)
+ * WebConfig 에서 엔드포인트마다 하나씩 등록
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+    // 일괄 요청의 항목 수 - 본문을 읽기 전에 소비하기 위해 클라이언트가 선언
+    public static final String RECORD_COUNT_HEADER = "X-Record-Count";
+    // 인터셉터에서 소비한 건수 - 본문을 읽은 뒤 실제 건수와의 차이는 컨트롤러에서 정산
+    public static final String CHARGED_PERMITS_ATTR = RateLimitInterceptor.class.getName() + ".chargedPermits";
+
+    private final RateLimitService rateLimitService;
+    private final RequestPrincipal requestPrincipal;
+    private final String endpoint;
+    private final String permitsHeader;     // 요청 하나가 여러 건을 처리하는 엔드포인트 - 헤더에 적힌 건수만큼 소비 (없으면 1)
+
+    public RateLimitInterceptor(RateLimitService rateLimitService, RequestPrincipal requestPrincipal, String endpoint) {
+        this(rateLimitService, requestPrincipal, endpoint, null);
+    }
+
+    public RateLimitInterceptor(RateLimitService rateLimitService, RequestPrincipal requestPrincipal, String endpoint, String permitsHeader) {
+        this.rateLimitService = rateLimitService;
+        this.requestPrincipal = requestPrincipal;
+        this.endpoint = endpoint;
+        this.permitsHeader = permitsHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        int permits = this.declaredPermits(request);
+        long retryAfter = rateLimitService.tryConsume(endpoint, requestPrincipal.getClientKey(), permits);
+        if (retryAfter == 0) {
+            request.setAttribute(CHARGED_PERMITS_ATTR, permits);
+            return true;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"error\": \"Too Many Requests\", \"message\": \"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}");
+        return false;
+    }
+
+    // 잘못된 값은 1건으로 취급 (버킷 용량보다 큰 값은 RateLimitService 에서 용량으로 제한)
+    private int declaredPermits(HttpServletRequest request) {
+        String declared = permitsHeader == null ? null : request.getHeader(permitsHeader);
+        if (declared == null) {
+            return 1;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(declared.trim()));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package top.nulldns.subdns.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 메모리 캐시 갱신 1회 (존 목록, 관리자 목록)
+ */
+@Name("top.nulldns.subdns.CacheRefresh")
+@Label("Cache Refresh")
+@Category({"sub-dns", "Cache"})
+@Description("메모리 캐시 갱신")
+@StackTrace(false)
+public class CacheRefreshEvent extends Event {
+    public static final String ZONES = "zones";
+    public static final String ADMINS = "admins";
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Entries")
+    @Description("갱신 후 항목 수 (실패 시 -1)")
+    public int entries;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,25 @@
+package top.nulldns.subdns.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Redis 락 획득 시도 1회 (duration = 대기 시간)
+ */
+@Name("top.nulldns.subdns.LockAcquire")
+@Label("Lock Acquire")
+@Category({"sub-dns", "Lock"})
+@Description("Redis 분산 락 획득 시도")
+@StackTrace(false)
+public class LockAcquireEvent extends Event {
+    @Label("Key Class")
+    @Description("락 키 앞부분 (pdns, acme, scheduler, admin) - 도메인은 기록하지 않음")
+    public String keyClass;
+
+    @Label("Acquired")
+    public boolean acquired;
+}
@@ -0,0 +1,34 @@
+package top.nulldns.subdns.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * PowerDNS API 요청 1회 (duration = 요청 ~ 응답 처리 완료)
+ * 기록이 꺼져 있으면 shouldCommit() 만 확인하고 필드를 채우지 않음
+ */
+@Name("top.nulldns.subdns.PdnsRequest")
+@Label("PowerDNS Request")
+@Category({"sub-dns", "PowerDNS"})
+@Description("PowerDNS HTTP API 요청")
+@StackTrace(false)
+public class PdnsRequestEvent extends Event {
+    @Label("Method")
+    public String method;
+
+    @Label("Zone")
+    @Description("대상 존 (존 목록 조회는 *)")
+    public String zone;
+
+    @Label("Rrsets")
+    @Description("보낸 rrset 수 (PATCH) 또는 받은 rrset 수 (GET)")
+    public int rrsets;
+
+    @Label("Status")
+    @Description("HTTP 상태 코드 (응답 전 실패는 0)")
+    public int status;
+}
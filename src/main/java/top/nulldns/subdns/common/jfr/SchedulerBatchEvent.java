@@ -0,0 +1,34 @@
+package top.nulldns.subdns.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * PENDING 처리 / 만료 삭제 배치 1회
+ */
+@Name("top.nulldns.subdns.SchedulerBatch")
+@Label("Scheduler Batch")
+@Category({"sub-dns", "Scheduler"})
+@Description("스케줄러 배치 처리")
+@StackTrace(false)
+public class SchedulerBatchEvent extends Event {
+    @Label("Status")
+    @Description("처리 대상 상태 (ADD_PENDING, UPDATE_PENDING, DELETE_PENDING, EXPIRED)")
+    public String status;
+
+    @Label("Size")
+    @Description("배치 대상 행 수")
+    public int size;
+
+    @Label("Locked")
+    @Description("락을 잡아 실제 처리한 행 수")
+    public int locked;
+
+    @Label("Successes")
+    @Description("PDNS 반영에 성공한 행 수")
+    public int successes;
+}
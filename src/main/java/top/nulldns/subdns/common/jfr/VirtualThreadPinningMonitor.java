@@ -0,0 +1,98 @@
+package top.nulldns.subdns.common.jfr;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가상 스레드 고정(pinning) 감시 - synchronized 안에서 I/O 로 막히면 캐리어 스레드까지 묶여 동시성이 줄어듦
+ * JDK 가 내보내는 jdk.VirtualThreadPinned 이벤트를 앱 안에서 받아 위치별 메트릭(subdns.vthread.pinned)으로 기록하고
+ * 처음 보는 위치는 스택과 함께 경고 로그를 남김
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+    private final MeterRegistry meterRegistry;
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+    private static final int MAX_SITES = 100;           // 태그 수 제한 (초과분은 other)
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Set<String> sites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    @PostConstruct
+    private void start() {
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(THRESHOLD).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+        } catch (Exception e) {     // JFR 을 쓸 수 없는 환경
+            log.warn("가상 스레드 고정 감시 시작 실패: {}", e.getMessage());
+            stream = null;
+        }
+    }
+
+    @PreDestroy
+    private void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String site = pinnedSite(frames);
+
+        boolean firstSeen = false;
+        if (!sites.contains(site)) {
+            if (sites.size() < MAX_SITES) {
+                firstSeen = sites.add(site);
+            } else {
+                site = "other";
+            }
+        }
+
+        Timer.builder("subdns.vthread.pinned")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (firstSeen) {
+            StringBuilder stack = new StringBuilder();
+            for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+                RecordedFrame frame = frames.get(i);
+                stack.append("\n\tat ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName())
+                        .append(':').append(frame.getLineNumber());
+            }
+            log.warn("가상 스레드 고정 {}ms ({}){}", event.getDuration().toMillis(), site, stack);
+        }
+    }
+
+    // JDK 내부 프레임을 건너뛴 첫 위치 (synchronized 블록 또는 네이티브 호출을 한 코드)
+    private static String pinnedSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return frames.isEmpty() ? "unknown" : "jdk";
+    }
+}
@@ -0,0 +1,75 @@
+package top.nulldns.subdns.common.principal;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+import top.nulldns.subdns.common.filter.AccessTokenFilter;
+import top.nulldns.subdns.service.domain.CheckAdminService;
+
+/**
+ * 요청 단위 로그인 정보 - 인터셉터, GlobalConfig, 컨트롤러가 같은 인스턴스를 공유
+ * 세션(Redis)은 처음 필요할 때 한 번만 읽고, 관리자 여부도 처음 물어볼 때 한 번만 확인
+ * 토큰 인증 요청은 AccessTokenFilter 가 채운 요청 전용 세션 기준
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class RequestPrincipal {
+    private final HttpServletRequest request;
+    private final CheckAdminService checkAdminService;
+
+    private boolean resolved;
+    private Long memberId;
+    private String userId;
+    private Boolean admin;
+
+    public Long getMemberId() {
+        resolve();
+        return memberId;
+    }
+
+    public String getUserId() {
+        resolve();
+        return userId;
+    }
+
+    public boolean isLoggedIn() {
+        resolve();
+        return memberId != null && userId != null;
+    }
+
+    public boolean isAdmin() {
+        if (admin == null) {
+            Long id = getMemberId();
+            admin = id != null && checkAdminService.isAdmin(id);
+        }
+        return admin;
+    }
+
+    // 요청 제한 기준 - 로그인 회원은 memberId, 비로그인은 IP
+    public String getClientKey() {
+        Long id = getMemberId();
+        return id != null ? "m:" + id : "ip:" + request.getRemoteAddr();
+    }
+
+    // 접근 토큰으로 들어온 요청 (로그인 세션 X)
+    public boolean isTokenAuthenticated() {
+        return request.getAttribute(AccessTokenFilter.TOKEN_ID_ATTR) != null;
+    }
+
+    // 세션이 없는 요청은 새로 만들지 않음
+    private void resolve() {
+        if (resolved) {
+            return;
+        }
+        resolved = true;
+
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            memberId = (Long) session.getAttribute("memberId");
+            userId = (String) session.getAttribute("id");
+        }
+    }
+}
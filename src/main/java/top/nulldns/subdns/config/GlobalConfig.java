@@ -1,17 +1,17 @@
 package top.nulldns.subdns.config;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
-import top.nulldns.subdns.service.domain.CheckAdminService;
+import top.nulldns.subdns.common.principal.RequestPrincipal;
+import top.nulldns.subdns.controller.view.IndexController;
 
-@ControllerAdvice
+// 화면(템플릿) 컨트롤러에만 적용 - JSON API 는 모델을 쓰지 않으므로 세션/관리자 조회 생략
+@ControllerAdvice(basePackageClasses = IndexController.class)
 @RequiredArgsConstructor
 public class GlobalConfig {
 
-    private final CheckAdminService checkAdminService;
+    private final RequestPrincipal requestPrincipal;
     private final StorageProperties storageProperties;
 
     @ModelAttribute("staticUrl")
@@ -20,21 +20,17 @@ public class GlobalConfig {
     }
 
     @ModelAttribute("isLoggedIn")
-    public boolean isLoggedIn(HttpSession session) {
-        return session.getAttribute("memberId") != null;
+    public boolean isLoggedIn() {
+        return requestPrincipal.getMemberId() != null;
     }
 
     @ModelAttribute("userId")
-    public String userId(HttpSession session) {
-        return (String) session.getAttribute("id");
+    public String userId() {
+        return requestPrincipal.getUserId();
     }
 
     @ModelAttribute("isAdmin")
-    public boolean isAdmin(HttpSession session) {
-        Long memberId = (Long) session.getAttribute("memberId");
-        if (memberId == null) {
-            return false;
-        }
-        return checkAdminService.isAdmin(memberId);
+    public boolean isAdmin() {
+        return requestPrincipal.isAdmin();
     }
-}
\ No newline at end of file
+}
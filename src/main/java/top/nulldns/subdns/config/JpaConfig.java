@@ -0,0 +1,26 @@
+package top.nulldns.subdns.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+    private static final int JDBC_BATCH_SIZE = 100;
+
+    /**
+     * 엔티티 쓰기 JDBC 배치 설정
+     * IDENTITY 전략이라 INSERT 는 배치되지 않지만 UPDATE/DELETE 는 배치됨
+     * spring.jpa.properties.* 로 직접 지정한 값이 있으면 그 값을 우선함
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package top.nulldns.subdns.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import top.nulldns.subdns.dao.AccessToken;
+import top.nulldns.subdns.dao.AcmeChallenge;
+import top.nulldns.subdns.dao.Admin;
+import top.nulldns.subdns.dao.BlockedWord;
+import top.nulldns.subdns.dao.HaveSubDomain;
+import top.nulldns.subdns.dao.Member;
+import top.nulldns.subdns.dao.UpdateToken;
+import top.nulldns.subdns.dto.AccessTokenDto;
+import top.nulldns.subdns.dto.AccessTokenOwnerDto;
+import top.nulldns.subdns.dto.BlockedWordDto;
+import top.nulldns.subdns.dto.PDNSDto;
+import top.nulldns.subdns.dto.PendingRowDto;
+import top.nulldns.subdns.dto.RecordEventDto;
+import top.nulldns.subdns.dto.RecordStateDto;
+import top.nulldns.subdns.dto.SubDomainDto;
+import top.nulldns.subdns.dto.UpdateTokenOwnerDto;
+import top.nulldns.subdns.service.facade.PDNSService;
+
+import java.util.List;
+
+/**
+ * native image 용 리플렉션 / 직렬화 / 리소스 힌트 (AOT 처리가 스스로 찾지 못하는 것만)
+ * JVM 실행에는 영향 없음
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.SubDnsRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class SubDnsRuntimeHints implements RuntimeHintsRegistrar {
+        // Hibernate 가 리플렉션으로 필드를 읽고 쓰는 엔티티
+        private static final List<Class<?>> ENTITIES = List.of(
+                AccessToken.class, AcmeChallenge.class, Admin.class, BlockedWord.class,
+                HaveSubDomain.class, Member.class, UpdateToken.class
+        );
+
+        // JPQL 생성자 표현식 (SELECT new ...) 으로 만드는 DTO
+        private static final List<Class<?>> PROJECTIONS = List.of(
+                AccessTokenDto.class, AccessTokenOwnerDto.class, BlockedWordDto.class, PendingRowDto.class,
+                RecordStateDto.class, SubDomainDto.class, UpdateTokenOwnerDto.class
+        );
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // RestClient / ObjectMapper 로 직접 (역)직렬화하는 타입 - 컨트롤러 반환 타입이 아니라 자동 등록되지 않음
+            // PDNSDto 내부 클래스는 Lombok 이 만든 생성자, 빌더, getter/setter 까지 포함
+            bindingRegistrar.registerReflectionHints(hints.reflection(), PDNSDto.class.getDeclaredClasses());
+            bindingRegistrar.registerReflectionHints(hints.reflection(), RecordEventDto.class, PDNSService.ZoneSnapshot.class);
+
+            for (Class<?> entity : ENTITIES) {
+                hints.reflection().registerType(entity,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+            for (Class<?> projection : PROJECTIONS) {
+                hints.reflection().registerType(projection, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+
+            // Redis 세션 속성 (JDK 직렬화) - id, memberId
+            hints.serialization().registerType(Number.class);
+            hints.serialization().registerType(Long.class);
+            hints.serialization().registerType(String.class);
+
+            hints.resources().registerPattern("templates/**");
+            hints.resources().registerPattern("static/**");
+        }
+    }
+}
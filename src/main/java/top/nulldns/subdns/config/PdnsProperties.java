@@ -12,4 +12,10 @@ import org.springframework.context.annotation.Configuration;
 public class PdnsProperties {
     private String url;
     private String apiKey;
+
+    /**
+     * 마지막으로 받아온 존 목록 저장 위치 (재시작 시 PDNS 응답 전에 바로 사용, 비우면 사용 안 함)
+     * 기본값 없음 - 읽은 스냅샷으로 존 목록과 readiness 가 결정되므로 애플리케이션만 쓸 수 있는 경로를 직접 지정해야 함
+     */
+    private String zoneSnapshotPath;
 }
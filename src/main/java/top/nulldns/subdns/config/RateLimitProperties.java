@@ -0,0 +1,37 @@
+package top.nulldns.subdns.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    /**
+     * 엔드포인트별 제한 (rate-limit.endpoints.add-record.capacity=10 등)
+     */
+    private Map<String, Limit> endpoints = new HashMap<>(Map.of(
+            "available-domains", new Limit(30, 30),
+            "add-record", new Limit(10, 10),
+            "add-records", new Limit(500, 100)     // 요청 수가 아닌 항목 수 기준 (PDNSRestController 에서 소비)
+    ));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int capacity;           // 순간 최대 요청 수
+        private int refillPerMinute;    // 분당 충전량
+    }
+}
@@ -0,0 +1,45 @@
+package top.nulldns.subdns.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import top.nulldns.subdns.service.facade.BlocklistService;
+import top.nulldns.subdns.service.facade.DynDnsService;
+import top.nulldns.subdns.service.infra.RecordEventPublisher;
+import top.nulldns.subdns.service.infra.RecordEventStreamService;
+
+@Configuration
+@Slf4j
+public class RedisEventConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisEventListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     RecordEventStreamService recordEventStreamService,
+                                                                     BlocklistService blocklistService,
+                                                                     DynDnsService dynDnsService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> recordEventStreamService.dispatch(message.getBody()),
+                new ChannelTopic(RecordEventPublisher.CHANNEL)
+        );
+        container.addMessageListener(
+                (message, pattern) -> dynDnsService.evictCachedContent(message.getBody()),
+                new ChannelTopic(RecordEventPublisher.CHANNEL)
+        );
+        container.addMessageListener(
+                (message, pattern) -> {
+                    try {
+                        blocklistService.reload();
+                    } catch (Exception e) {
+                        log.error("금지어 갱신 알림 처리 중 에러 발생", e);
+                    }
+                },
+                new ChannelTopic(BlocklistService.CHANNEL)
+        );
+        return container;
+    }
+}
@@ -0,0 +1,28 @@
+package top.nulldns.subdns.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    // @Scheduled 메서드 수(12)보다 넉넉하게 - 모든 작업이 동시에 돌아도 서로 기다리지 않음
+    private static final int POOL_SIZE = 16;
+
+    /**
+     * @Scheduled 전용 스케줄러 (기본 스케줄러는 스레드 1개라 자정 캐시 갱신, 만료 삭제, PENDING 처리가 서로 기다림)
+     * SimpleAsyncTaskScheduler 는 fixedDelay 작업을 스케줄러 스레드 하나에서 차례로 실행하므로 풀 스케줄러 사용
+     * 풀 스레드는 가상 스레드 - 작업이 JDBC/Redis/PDNS 에서 막혀도 캐리어 스레드를 잡지 않음
+     * 같은 작업끼리는 겹치지 않음 (fixedDelay 는 이전 실행 종료 후, cron 작업은 각자 Redis 락으로 보호)
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(POOL_SIZE);
+        scheduler.setThreadNamePrefix("subdns-scheduled-");
+        scheduler.setVirtualThreads(true);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
@@ -1,6 +1,9 @@
 package top.nulldns.subdns.config;
 
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +23,8 @@ public class SecurityConfig {
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                         .requestMatchers("/", "/login", "/banned").permitAll()
                         .requestMatchers("/api/available-domains/**", "/api/me").permitAll()
+                        .requestMatchers("/nic/update").permitAll()    // 갱신 토큰으로 인증
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll()   // 관리 포트 (management.server.port)
                         .requestMatchers("/robots.txt", "/sitemap.xml", "/ads.txt").permitAll()
                         .requestMatchers("naver114d2366f4787248382a17a44f17b76b.html", "naver114d2366f4787248382a17a44f17b76b").permitAll()
                         .anyRequest().authenticated()
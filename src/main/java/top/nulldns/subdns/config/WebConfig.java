@@ -1,11 +1,19 @@
 package top.nulldns.subdns.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.session.web.http.SessionRepositoryFilter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import top.nulldns.subdns.common.filter.AccessTokenFilter;
 import top.nulldns.subdns.common.interceptor.AdminInterceptor;
 import top.nulldns.subdns.common.interceptor.BannedInterceptor;
+import top.nulldns.subdns.common.interceptor.RateLimitInterceptor;
+import top.nulldns.subdns.common.principal.RequestPrincipal;
+import top.nulldns.subdns.service.domain.AccessTokenService;
+import top.nulldns.subdns.service.infra.RateLimitService;
 
 @Configuration
 @RequiredArgsConstructor
@@ -13,12 +21,33 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final BannedInterceptor bannedInterceptor;
     private final AdminInterceptor adminInterceptor;
+    private final AccessTokenService accessTokenService;
+    private final RateLimitService rateLimitService;
+    private final RequestPrincipal requestPrincipal;    // 요청 범위 프록시 - 요청마다 해당 요청의 인스턴스로 연결
+
+    // Redis 세션 필터 뒤, 시큐리티 필터 앞 - 세션 필터의 래퍼를 한 번 더 감싸서 세션 조회/저장을 건너뜀
+    @Bean
+    public FilterRegistrationBean<AccessTokenFilter> accessTokenFilter() {
+        FilterRegistrationBean<AccessTokenFilter> registration = new FilterRegistrationBean<>(new AccessTokenFilter(accessTokenService));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SessionRepositoryFilter.DEFAULT_ORDER + 1);
+        return registration;
+    }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // 요청 제한은 DB 를 읽는 인터셉터보다 먼저
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitService, requestPrincipal, "available-domains"))
+                .addPathPatterns("/api/available-domains/**");
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitService, requestPrincipal, "add-record"))
+                .addPathPatterns("/api/add-record");
+        // 일괄 추가는 X-Record-Count 건수만큼 먼저 소비 - 실제 항목이 더 많으면 차이만 컨트롤러에서 추가 소비
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitService, requestPrincipal, "add-records", RateLimitInterceptor.RECORD_COUNT_HEADER))
+                .addPathPatterns("/api/add-records");
+
         registry.addInterceptor(bannedInterceptor)
                 .addPathPatterns("/**")
-                .excludePathPatterns("/banned", "/login", "/run-login", "/logout", "/css/**", "/js/**", "/assets/**", "/*.txt", "/*.xml", "/*.html");
+                .excludePathPatterns("/banned", "/nic/**", "/login", "/run-login", "/logout", "/css/**", "/js/**", "/assets/**", "/*.txt", "/*.xml", "/*.html");
 
         registry.addInterceptor(adminInterceptor)
                 .addPathPatterns("/admin/**");
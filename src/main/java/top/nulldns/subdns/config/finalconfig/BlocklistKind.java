@@ -0,0 +1,7 @@
+package top.nulldns.subdns.config.finalconfig;
+
+public enum BlocklistKind {
+    EXACT,          // 라벨 전체 일치
+    CONTAINS,       // 라벨에 포함
+    CNAME_TARGET    // CNAME 대상 도메인 (하위 도메인 포함)
+}
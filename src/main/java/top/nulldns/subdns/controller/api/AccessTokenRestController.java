@@ -0,0 +1,77 @@
+package top.nulldns.subdns.controller.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import top.nulldns.subdns.common.principal.RequestPrincipal;
+import top.nulldns.subdns.dto.AccessTokenDto;
+import top.nulldns.subdns.service.domain.AccessTokenService;
+import top.nulldns.subdns.service.domain.MemberService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/access-tokens")
+public class AccessTokenRestController {
+    private final AccessTokenService accessTokenService;
+    private final MemberService memberService;
+    private final RequestPrincipal requestPrincipal;
+
+    // 토큰 관리는 로그인 세션으로만 가능 (토큰으로 토큰 발급 X)
+    private boolean isSessionLoggedIn() {
+        return !requestPrincipal.isTokenAuthenticated() && requestPrincipal.getMemberId() != null;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<AccessTokenDto>> getTokens() {
+        if (!isSessionLoggedIn()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Long memberId = requestPrincipal.getMemberId();
+
+        return ResponseEntity.ok(accessTokenService.getTokens(memberId));
+    }
+
+    @PostMapping
+    public ResponseEntity<Map<String, String>> issueToken(@RequestParam String name) {
+        if (!isSessionLoggedIn()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Long memberId = requestPrincipal.getMemberId();
+
+        try {
+            // 토큰 원문은 이번 응답에서만 확인 가능
+            String token = accessTokenService.issue(memberService.getMemberById(memberId), name);
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("token", token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            log.error("접근 토큰 발급 중 에러 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @DeleteMapping("/{tokenId}")
+    public ResponseEntity<Void> revokeToken(@PathVariable Long tokenId) {
+        if (!isSessionLoggedIn()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Long memberId = requestPrincipal.getMemberId();
+
+        try {
+            accessTokenService.revoke(memberId, tokenId);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
@@ -0,0 +1,69 @@
+package top.nulldns.subdns.controller.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import top.nulldns.subdns.common.principal.RequestPrincipal;
+import top.nulldns.subdns.dto.AcmeChallengeDto;
+import top.nulldns.subdns.service.facade.AcmeService;
+
+import java.util.NoSuchElementException;
+
+// ACME DNS-01 (certbot / acme.sh 훅 등에서 접근 토큰으로 호출)
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/acme")
+public class AcmeRestController {
+    private final AcmeService acmeService;
+    private final RequestPrincipal requestPrincipal;
+
+    /**
+     * 200 - PDNS 반영 확인됨, 202 - 반영 요청은 성공했지만 아직 확인되지 않음
+     */
+    @PostMapping("/{subDomain}/{zone}")
+    public ResponseEntity<AcmeChallengeDto> present(@PathVariable String subDomain, @PathVariable String zone, @RequestParam String value) {
+        if (!requestPrincipal.isLoggedIn()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Long memberId = requestPrincipal.getMemberId();
+
+        try {
+            AcmeChallengeDto challenge = acmeService.present(memberId, subDomain, zone, value);
+            return ResponseEntity.status(challenge.visible() ? HttpStatus.OK : HttpStatus.ACCEPTED).body(challenge);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IllegalStateException | ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (ResponseStatusException e) {
+            return ResponseEntity.status(e.getStatusCode()).build();
+        } catch (Exception e) {
+            log.error("ACME 인증 값 추가 중 에러 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @DeleteMapping("/{subDomain}/{zone}")
+    public ResponseEntity<Void> cleanup(@PathVariable String subDomain, @PathVariable String zone, @RequestParam String value) {
+        if (!requestPrincipal.isLoggedIn()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Long memberId = requestPrincipal.getMemberId();
+
+        try {
+            acmeService.cleanup(memberId, subDomain, zone, value);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
@@ -3,9 +3,17 @@ package top.nulldns.subdns.controller.api;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import top.nulldns.subdns.config.finalconfig.BlocklistKind;
+import top.nulldns.subdns.config.finalconfig.Status;
 import top.nulldns.subdns.dao.HaveSubDomain;
 import top.nulldns.subdns.dao.Member;
 import top.nulldns.subdns.service.facade.AdminService;
@@ -13,10 +21,15 @@ import top.nulldns.subdns.service.domain.CheckAdminService;
 
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import top.nulldns.subdns.dto.AdminDomainDto;
 import top.nulldns.subdns.dto.AdminMemberDto;
+import top.nulldns.subdns.dto.BlockedWordDto;
+import top.nulldns.subdns.dto.PendingBacklogDto;
+import top.nulldns.subdns.dto.PendingDrainProgressDto;
+import top.nulldns.subdns.dto.ReconcileReportDto;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -52,6 +65,16 @@ public class AdminRestController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/users/ban")
+    public ResponseEntity<Map<String, Integer>> banUsers(@RequestBody List<Long> memberIds, @RequestParam boolean banned) {
+        return ResponseEntity.ok(Map.of("updated", adminService.setMembersBanned(memberIds, banned)));
+    }
+
+    @PostMapping("/users/{memberId}/domains/transfer")
+    public ResponseEntity<Map<String, Integer>> transferUserDomains(@PathVariable Long memberId, @RequestParam Long newMemberId) {
+        return ResponseEntity.ok(Map.of("updated", adminService.transferAllDomainOwnership(memberId, newMemberId)));
+    }
+
     @PostMapping("/users/{memberId}/maxRecords")
     public ResponseEntity<Void> updateMaxRecords(@PathVariable Long memberId, @RequestParam int maxRecords) {
         adminService.updateMemberMaxRecords(memberId, maxRecords);
@@ -96,6 +119,94 @@ public class AdminRestController {
         return ResponseEntity.ok().build();
     }
 
+    @GetMapping("/zones/{zone}/export")
+    public ResponseEntity<StreamingResponseBody> exportZone(@PathVariable String zone, @RequestParam(defaultValue = "false") boolean gzip) {
+        if (!adminService.hasZone(zone)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String fileName = zone + ".zone" + (gzip ? ".gz" : "");
+        StreamingResponseBody body = outputStream -> adminService.exportZone(zone, outputStream, gzip);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.TEXT_PLAIN)
+                .body(body);
+    }
+
+    @PostMapping("/zones/{zone}/expiry")
+    public ResponseEntity<Map<String, Integer>> extendZoneExpiry(@PathVariable String zone, @RequestParam String expiryDate) {
+        return ResponseEntity.ok(Map.of("updated", adminService.extendZoneExpiryDate(zone, java.time.LocalDate.parse(expiryDate))));
+    }
+
+    @PostMapping("/reconcile")
+    public ResponseEntity<ReconcileReportDto> reconcile(@RequestParam(required = false) String zone,
+                                                        @RequestParam(defaultValue = "true") boolean dryRun,
+                                                        @RequestParam(defaultValue = "false") boolean deleteOrphans) {
+        try {
+            return ResponseEntity.ok(adminService.reconcile(zone, dryRun, deleteOrphans));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (ConcurrencyFailureException e) {   // 이미 실행중
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @GetMapping("/reconcile")
+    public ResponseEntity<ReconcileReportDto> lastReconcileReport() {
+        ReconcileReportDto report = adminService.getLastReconcileReport();
+        return report == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(report);
+    }
+
+    // --- 금지어 관리 ---
+    @GetMapping("/blocklist")
+    public ResponseEntity<List<BlockedWordDto>> getBlocklist() {
+        return ResponseEntity.ok(adminService.getBlocklist());
+    }
+
+    @PostMapping("/blocklist")
+    public ResponseEntity<BlockedWordDto> addBlockedWord(@RequestParam BlocklistKind kind, @RequestParam String word) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(adminService.addBlockedWord(kind, word));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException | DataIntegrityViolationException e) {    // 이미 등록됨
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @DeleteMapping("/blocklist/{id}")
+    public ResponseEntity<Void> removeBlockedWord(@PathVariable Long id) {
+        try {
+            adminService.removeBlockedWord(id);
+            return ResponseEntity.noContent().build();
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // --- PENDING 적체 ---
+    @GetMapping("/pending")
+    public ResponseEntity<PendingBacklogDto> getPendingBacklog() {
+        return ResponseEntity.ok(adminService.getPendingBacklog());
+    }
+
+    @PostMapping("/pending/drain")
+    public ResponseEntity<PendingDrainProgressDto> drainPending(@RequestParam(required = false) Status status) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(adminService.drainPending(status));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ConcurrencyFailureException e) {   // 즉시 처리 또는 스케줄러 실행중
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @GetMapping("/pending/drain")
+    public ResponseEntity<PendingDrainProgressDto> getPendingDrainProgress() {
+        return ResponseEntity.ok(adminService.getPendingDrainProgress());
+    }
+
     @PostMapping("/deleteZone/{zone}/{code}")
     public ResponseEntity<Void> deleteZone(@PathVariable String zone, @PathVariable String code) {
         // 간단한 검증 (실제론 code 검증 로직 추가 필요)
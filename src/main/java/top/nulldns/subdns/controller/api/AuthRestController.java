@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import top.nulldns.subdns.common.principal.RequestPrincipal;
 import top.nulldns.subdns.dto.IdDto;
 import top.nulldns.subdns.service.facade.AuthService;
 
@@ -15,17 +16,18 @@ import top.nulldns.subdns.service.facade.AuthService;
 @Slf4j
 public class AuthRestController {
     private final AuthService authService;
+    private final RequestPrincipal requestPrincipal;
 
     @GetMapping("/me")
-    public ResponseEntity<IdDto> me(HttpSession session) {
-        String id = (String) session.getAttribute("id");
+    public ResponseEntity<IdDto> me() {
+        String id = requestPrincipal.getUserId();
 
         return id == null ? ResponseEntity.status(HttpStatus.UNAUTHORIZED).build() : ResponseEntity.ok(new IdDto(id));
     }
 
     @DeleteMapping("/leave")
     public ResponseEntity<Void> leave(HttpSession session) {
-        Long memberId = (Long) session.getAttribute("memberId");
+        Long memberId = requestPrincipal.getMemberId();
         if (memberId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
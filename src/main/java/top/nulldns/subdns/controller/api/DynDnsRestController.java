@@ -0,0 +1,66 @@
+package top.nulldns.subdns.controller.api;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import top.nulldns.subdns.service.facade.DynDnsService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// dyndns2 호환 (공유기, ddclient 등) - 세션 없이 갱신 토큰으로만 인증
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class DynDnsRestController {
+    private final DynDnsService dynDnsService;
+
+    /**
+     * GET /nic/update?hostname=example.nulldns.top&myip=1.2.3.4
+     * 인증: Basic (비밀번호 = 갱신 토큰) 또는 token 파라미터
+     */
+    @GetMapping(value = "/nic/update", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> update(HttpServletRequest request,
+                                         @RequestParam(required = false) String hostname,
+                                         @RequestParam(required = false) String myip,
+                                         @RequestParam(required = false) String token) {
+        if (token == null) {
+            token = this.extractBasicPassword(request.getHeader(HttpHeaders.AUTHORIZATION));
+        }
+        if (token == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .header(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"nulldns\"")
+                    .body("badauth");
+        }
+
+        // 프록시 뒤에서는 X-Forwarded-For 기준 (server.forward-headers-strategy=native - 내부망 프록시가 넘긴 값만 신뢰)
+        String ip = (myip == null || myip.isBlank()) ? request.getRemoteAddr() : myip.trim();
+
+        try {
+            return ResponseEntity.ok(dynDnsService.update(token, hostname, ip));
+        } catch (Exception e) {
+            log.error("DDNS 갱신 중 에러 발생", e);
+            return ResponseEntity.ok("911");
+        }
+    }
+
+    private String extractBasicPassword(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, "Basic ", 0, 6)) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getDecoder().decode(authorization.substring(6).trim()), StandardCharsets.UTF_8);
+            int idx = decoded.indexOf(':');
+            return idx < 0 ? null : decoded.substring(idx + 1);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,19 +1,23 @@
 package top.nulldns.subdns.controller.api;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import top.nulldns.subdns.common.interceptor.RateLimitInterceptor;
+import top.nulldns.subdns.common.principal.RequestPrincipal;
 import top.nulldns.subdns.dao.Member;
 import top.nulldns.subdns.dto.HaveDomainsDto;
 import top.nulldns.subdns.dto.PDNSDto;
 import top.nulldns.subdns.dao.HaveSubDomain;
-import top.nulldns.subdns.dto.SubDomainDto;
-import top.nulldns.subdns.service.domain.CheckAdminService;
+import top.nulldns.subdns.dto.RecordViewDto;
 import top.nulldns.subdns.service.domain.HaveSubDomainService;
+import top.nulldns.subdns.service.facade.DynDnsService;
 import top.nulldns.subdns.service.facade.PDNSService;
+import top.nulldns.subdns.service.facade.ZoneMirrorService;
+import top.nulldns.subdns.service.infra.RateLimitService;
 import top.nulldns.subdns.service.domain.MemberService;
 import top.nulldns.subdns.util.PDNSRecordValidator;
 
@@ -27,19 +31,18 @@ public class PDNSRestController {
     private final PDNSService pdnsService;
     private final HaveSubDomainService haveSubDomainService;
     private final MemberService memberService;
-    private final CheckAdminService checkAdminService;
-
-    private boolean isLoggedIn(HttpSession session) {
-        return session.getAttribute("memberId") != null && session.getAttribute("id") != null;
-    }
+    private final RequestPrincipal requestPrincipal;
+    private final ZoneMirrorService zoneMirrorService;
+    private final DynDnsService dynDnsService;
+    private final RateLimitService rateLimitService;
 
     @PatchMapping("/update-record/{subDomain}/{zone}")
-    public ResponseEntity<Void> updateRecord(HttpSession session, @PathVariable String subDomain, @PathVariable String zone) {
-        if (!isLoggedIn(session)) {
+    public ResponseEntity<Void> updateRecord(@PathVariable String subDomain, @PathVariable String zone) {
+        if (!requestPrincipal.isLoggedIn()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build(); // 로그인 필요
         }
 
-        Long memberId = (Long) session.getAttribute("memberId");
+        Long memberId = requestPrincipal.getMemberId();
         String fullDomain = subDomain + "." + zone;
 
         // throw new ResponseStatusException(STATUS, "MSG") 로 예외 넘어옴 - 로그 남길필요 없다고 판단하여 CATCH 안함
@@ -49,12 +52,12 @@ public class PDNSRestController {
     }
 
     @DeleteMapping("/delete-record/{subDomain}/{zone}")
-    public ResponseEntity<Void> deleteRecord(HttpSession session, @PathVariable String subDomain, @PathVariable String zone) {
-        if (!isLoggedIn(session)) {
+    public ResponseEntity<Void> deleteRecord(@PathVariable String subDomain, @PathVariable String zone) {
+        if (!requestPrincipal.isLoggedIn()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        Long memberId = (Long) session.getAttribute("memberId");
+        Long memberId = requestPrincipal.getMemberId();
         Member member = memberService.getMemberById(memberId);
 
         try {
@@ -70,12 +73,12 @@ public class PDNSRestController {
     }
 
     @GetMapping("/my-domains")
-    public ResponseEntity<List<HaveDomainsDto>> myDomains(HttpSession session) {
-        if (!isLoggedIn(session)) {
+    public ResponseEntity<List<HaveDomainsDto>> myDomains() {
+        if (!requestPrincipal.isLoggedIn()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        Long id = (Long) session.getAttribute("memberId");
+        Long id = requestPrincipal.getMemberId();
         List<HaveDomainsDto> haveDomains = new ArrayList<>();
 
         List<HaveSubDomain> haveSubDomainList = haveSubDomainService.getDistinctSubDomainsByMemberId(id);
@@ -98,12 +101,12 @@ public class PDNSRestController {
     }
 
     @GetMapping("/get-records/{fullDomain}")
-    public ResponseEntity<List<SubDomainDto>> getRecords(@PathVariable String fullDomain, HttpSession session) {
-        if (!isLoggedIn(session)) {
+    public ResponseEntity<List<RecordViewDto>> getRecords(@PathVariable String fullDomain) {
+        if (!requestPrincipal.isLoggedIn()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        Long memberId = (Long) session.getAttribute("memberId");
+        Long memberId = requestPrincipal.getMemberId();
         Member member = memberService.getMemberById(memberId);
 
         boolean isDomainOwner = haveSubDomainService.isOwnerOfDomain(member, fullDomain);
@@ -114,14 +117,15 @@ public class PDNSRestController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        List<SubDomainDto> subDomains = haveSubDomainService.getSubDomainDTOs(fullDomain);
+        // DB 값 + 실제 응답중인 값 (존 사본 기준)
+        List<RecordViewDto> subDomains = zoneMirrorService.getRecordViews(fullDomain);
 
         return ResponseEntity.ok(subDomains);
     }
 
     @GetMapping("/available-domains/{subDomain}")
-    public ResponseEntity<PDNSDto.CanAddSubDomainZones> availableDomains(@PathVariable String subDomain, HttpSession session) {
-        boolean isAdmin = checkAdminService.isAdmin((Long) session.getAttribute("memberId"));
+    public ResponseEntity<PDNSDto.CanAddSubDomainZones> availableDomains(@PathVariable String subDomain) {
+        boolean isAdmin = requestPrincipal.isAdmin();
 
         boolean isAllowDomain = isAdmin ? PDNSRecordValidator.isValidLabelAdmin(subDomain)
                                         : PDNSRecordValidator.isValidLabel(subDomain);
@@ -137,7 +141,9 @@ public class PDNSRestController {
             String  zoneName = zone.getName(),
                     fullDomain = subDomain + "." + zoneName;
 
-            boolean canAdd = isAllowDomain && haveSubDomainService.canAddSubDomain(fullDomain);
+            // PDNS 에 직접 등록된 이름도 사용 불가 (이미 받아온 존 사본만 확인)
+            boolean canAdd = isAllowDomain && haveSubDomainService.canAddSubDomain(fullDomain)
+                    && !zoneMirrorService.isServed(zoneName, fullDomain);
 
             canAddSubDomainZones.getZones().add(
                     PDNSDto.ZoneAddCapability.builder()
@@ -151,11 +157,11 @@ public class PDNSRestController {
     }
 
     @PostMapping("/add-record")
-    public ResponseEntity<Void> addRecord(@RequestBody PDNSDto.AddRecordRequest request, HttpSession session) {
-        if (!isLoggedIn(session)) {
+    public ResponseEntity<Void> addRecord(@RequestBody PDNSDto.AddRecordRequest request) {
+        if (!requestPrincipal.isLoggedIn()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        Long memberId = (Long) session.getAttribute("memberId");
+        Long memberId = requestPrincipal.getMemberId();
 
         try {
             pdnsService.addRecord(request.getSubDomain(), request.getZone(), request.getType(), request.getContent(), memberId);
@@ -173,5 +179,72 @@ public class PDNSRestController {
 
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
-}
 
+    @PostMapping("/add-records")
+    public ResponseEntity<List<PDNSDto.BulkRecordResult>> addRecords(@RequestBody List<PDNSDto.AddRecordRequest> requests,
+                                                                     @RequestAttribute(name = RateLimitInterceptor.CHARGED_PERMITS_ATTR, required = false) Integer chargedPermits) {
+        if (!requestPrincipal.isLoggedIn()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Long memberId = requestPrincipal.getMemberId();
+
+        // 인터셉터가 X-Record-Count 건수만큼 이미 소비함 - 헤더보다 항목이 많으면 차이만큼 추가 소비
+        int uncharged = (requests == null ? 0 : requests.size()) - (chargedPermits == null ? 0 : chargedPermits);
+        if (uncharged > 0) {
+            long retryAfter = rateLimitService.tryConsume("add-records", requestPrincipal.getClientKey(), uncharged);
+            if (retryAfter > 0) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                        .build();
+            }
+        }
+
+        try {
+            return ResponseEntity.ok(pdnsService.addRecords(requests, memberId));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            log.error("레코드 일괄 추가 중 에러 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PostMapping("/update-token/{subDomain}/{zone}")
+    public ResponseEntity<Map<String, String>> issueUpdateToken(@PathVariable String subDomain, @PathVariable String zone) {
+        if (!requestPrincipal.isLoggedIn()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Long memberId = requestPrincipal.getMemberId();
+
+        try {
+            // 토큰 원문은 이번 응답에서만 확인 가능
+            return ResponseEntity.ok(Map.of("token", dynDnsService.issueToken(memberId, subDomain, zone)));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (Exception e) {
+            log.error("갱신 토큰 발급 중 에러 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @DeleteMapping("/update-token/{subDomain}/{zone}")
+    public ResponseEntity<Void> revokeUpdateToken(@PathVariable String subDomain, @PathVariable String zone) {
+        if (!requestPrincipal.isLoggedIn()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Long memberId = requestPrincipal.getMemberId();
+
+        try {
+            dynDnsService.revokeToken(memberId, subDomain, zone);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (Exception e) {
+            log.error("갱신 토큰 폐기 중 에러 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
@@ -0,0 +1,37 @@
+package top.nulldns.subdns.controller.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import top.nulldns.subdns.common.principal.RequestPrincipal;
+import top.nulldns.subdns.service.infra.RecordEventStreamService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class RecordEventRestController {
+    private final RecordEventStreamService recordEventStreamService;
+    private final RequestPrincipal requestPrincipal;
+
+    /**
+     * 내 레코드 상태 변경 스트림 (SSE) - event: record, data: RecordEventDto
+     */
+    @GetMapping(value = "/record-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> recordEvents() {
+        Long memberId = requestPrincipal.getMemberId();
+        if (memberId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            return ResponseEntity.ok(recordEventStreamService.subscribe(memberId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package top.nulldns.subdns.controller.test;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -8,12 +7,12 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import top.nulldns.subdns.SubDNSScheduler;
+import top.nulldns.subdns.common.principal.RequestPrincipal;
 import top.nulldns.subdns.dao.Member;
 import top.nulldns.subdns.repository.HaveSubDomainRepository;
 import top.nulldns.subdns.service.domain.HaveSubDomainService;
 import top.nulldns.subdns.service.facade.AuthService;
 import top.nulldns.subdns.service.facade.PDNSService;
-import top.nulldns.subdns.service.domain.CheckAdminService;
 import top.nulldns.subdns.service.domain.MemberService;
 
 import java.util.Map;
@@ -32,10 +31,10 @@ public class TestController {
     private final MemberService memberService;
     private final PDNSService pdnsService;
     private final AuthService authService;
-    private final CheckAdminService checkAdminService;
     private final SubDNSScheduler subDNSScheduler;
     private final HaveSubDomainService haveSubDomainService;
     private final HaveSubDomainRepository haveSubDomainRepository;
+    private final RequestPrincipal requestPrincipal;
 
     private static final String TEST_PROVIDER = "test_provider";
     private static final String TEST_ZONE = "nulldns.top"; // Assuming this is one of the cachedZoneNames
@@ -44,12 +43,12 @@ public class TestController {
     @GetMapping("/test")
     @ResponseBody
     @Transactional
-    public String test(HttpSession session) {
-        if (session.getAttribute("memberId") == null || session.getAttribute("id") == null) {
+    public String test() {
+        if (!requestPrincipal.isLoggedIn()) {
             return "<script>alert('로그인이 필요합니다.'); loadPage('auth');</script>";
         }
 
-        boolean isAdmin = checkAdminService.isAdmin((Long) session.getAttribute("memberId"));
+        boolean isAdmin = requestPrincipal.isAdmin();
         if (!isAdmin) {
             return "<script>alert('관리자 권한이 없습니다.'); loadPage('domainSearch');/script>";
         }
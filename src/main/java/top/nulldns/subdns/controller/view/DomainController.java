@@ -1,11 +1,11 @@
 package top.nulldns.subdns.controller.view;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import top.nulldns.subdns.common.principal.RequestPrincipal;
 import top.nulldns.subdns.dao.Member;
 import top.nulldns.subdns.service.domain.HaveSubDomainService;
 import top.nulldns.subdns.service.domain.MemberService;
@@ -16,6 +16,7 @@ public class DomainController {
 
     private final MemberService memberService;
     private final HaveSubDomainService haveSubDomainService;
+    private final RequestPrincipal requestPrincipal;
 
     @GetMapping("/domains")
     public String domains() {
@@ -25,14 +26,13 @@ public class DomainController {
     @GetMapping("/domains/detail")
     public String domainDetail(@RequestParam(required = false) String subDomain,
                                @RequestParam(required = false) String zone,
-                               HttpSession session,
                                Model model) {
 
         boolean isNew = true;
 
         // 도메인 상세 조회 시 권한 체크
         if (subDomain != null && zone != null) {
-            Long memberId = (Long) session.getAttribute("memberId");
+            Long memberId = requestPrincipal.getMemberId();
             if (memberId == null) {
                 return "redirect:/login";
             }
@@ -0,0 +1,36 @@
+package top.nulldns.subdns.dao;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// ACME DNS-01 인증용 TXT 값 (만료되면 자동 삭제)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+        name = "acme_challenges",
+        indexes = @Index(name = "idx_acme_expires_at", columnList = "expires_at")
+)
+public class AcmeChallenge {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", referencedColumnName = "id", nullable = false)
+    private Member member;
+
+    // 인증 대상 도메인 (example.nulldns.top) - 실제 레코드 이름은 _acme-challenge.{fullDomain}
+    @Column(name = "full_domain", nullable = false)
+    private String fullDomain;
+
+    @Column(name = "challenge_value", nullable = false)
+    private String value;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,40 @@
+package top.nulldns.subdns.dao;
+
+import jakarta.persistence.*;
+import lombok.*;
+import top.nulldns.subdns.config.finalconfig.BlocklistKind;
+
+import java.time.LocalDateTime;
+
+// 서브도메인 라벨 / CNAME 대상 금지어 (관리자 페이지에서 수정, 변경 시 모든 노드에 즉시 반영)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+        name = "blocked_words",
+        uniqueConstraints = @UniqueConstraint(name = "uk_blocked_words_kind_word", columnNames = {"kind", "word"})
+)
+public class BlockedWord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BlocklistKind kind;
+
+    @Column(nullable = false, length = 253)
+    private String word;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
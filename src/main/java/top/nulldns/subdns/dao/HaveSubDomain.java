@@ -5,6 +5,7 @@ import lombok.*;
 import top.nulldns.subdns.config.finalconfig.Status;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
@@ -18,6 +19,10 @@ import java.time.LocalDate;
                     name = "uk_member_full_domain_record_type",
                     columnNames = {"full_domain", "record_type"}
             )
+        },
+        indexes = {
+            // 상태별 가장 오래된 PENDING 조회용 (상태 = ? 조건의 MIN 은 인덱스 한쪽 끝만 읽음)
+            @Index(name = "idx_domain_status_changed_at", columnList = "domain_status, status_changed_at")
         }
 )
 public class HaveSubDomain {
@@ -44,11 +49,23 @@ public class HaveSubDomain {
     @Column(name = "domain_status", length = 15)
     private Status domainStatus;
 
+    // 마지막 상태 전환 시각 - PENDING 적체 시간 계산용 (컬럼 추가 이전 행은 null)
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
+    // 낙관적 락 - 락 없이 content 수정 시 compare-and-set 기준 값
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     @PrePersist
     public void prePersist() {
         if (this.expiryDate == null) {
             this.expiryDate = LocalDate.now().plusMonths(6);
         }
+        if (this.statusChangedAt == null) {
+            this.statusChangedAt = LocalDateTime.now();
+        }
     }
 
     public Long getMemberId() {
@@ -60,15 +77,20 @@ public class HaveSubDomain {
     }
 
     public void changeToActive() {
-        this.domainStatus = Status.ACTIVE;
+        changeStatus(Status.ACTIVE);
     }
 
     public void changeToUpdatePending() {
-        this.domainStatus = Status.UPDATE_PENDING;
+        changeStatus(Status.UPDATE_PENDING);
     }
 
     public void changeToDeletePending() {
-        this.domainStatus = Status.DELETE_PENDING;
+        changeStatus(Status.DELETE_PENDING);
+    }
+
+    private void changeStatus(Status status) {
+        this.domainStatus = status;
+        this.statusChangedAt = LocalDateTime.now();
     }
 
     public boolean isRenewable() {
@@ -0,0 +1,10 @@
+package top.nulldns.subdns.dto;
+
+import java.time.LocalDateTime;
+
+public record AccessTokenDto(
+        Long id,
+        String name,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,9 @@
+package top.nulldns.subdns.dto;
+
+public record AccessTokenOwnerDto(
+        Long tokenId,
+        Long memberId,
+        String userId,      // provider + providerId (세션의 "id" 와 같은 값)
+        boolean banned
+) {
+}
@@ -0,0 +1,12 @@
+package top.nulldns.subdns.dto;
+
+import java.time.LocalDateTime;
+
+public record AcmeChallengeDto(
+        String fqdn,            // _acme-challenge.example.nulldns.top
+        String value,
+        int ttl,
+        LocalDateTime expiresAt,
+        boolean visible         // PDNS 에서 응답중인지 확인됨
+) {
+}
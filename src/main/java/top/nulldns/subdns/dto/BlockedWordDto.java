@@ -0,0 +1,13 @@
+package top.nulldns.subdns.dto;
+
+import top.nulldns.subdns.config.finalconfig.BlocklistKind;
+
+import java.time.LocalDateTime;
+
+public record BlockedWordDto(
+        Long id,
+        BlocklistKind kind,
+        String word,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,18 @@
+package top.nulldns.subdns.dto;
+
+import java.time.LocalDateTime;
+
+public record ExpiryCleanupProgressDto(
+        boolean running,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        long lastId,
+        int batches,
+        long scanned,
+        long deleted,
+        long failed
+) {
+    public static ExpiryCleanupProgressDto notStarted() {
+        return new ExpiryCleanupProgressDto(false, null, null, 0, 0, 0, 0, 0);
+    }
+}
@@ -10,6 +10,8 @@ import java.util.List;
 
 // ---------- 리팩토링 필요 -> subDoamin ,zoneName, fullDomain 을 다 name으로 만들어버렸음 (현재는 혼동 주의)
 public class PDNSDto {
+    public static final int DEFAULT_TTL = 3600;
+
     @Data
     public static class AddRecordRequest {
         private String subDomain,
@@ -33,7 +35,7 @@ public class PDNSDto {
                         type;
 
         @Builder.Default
-        private Integer ttl = 3600;
+        private Integer ttl = DEFAULT_TTL;
 
         @JsonProperty("changetype")
         private String changeType;
@@ -50,6 +52,17 @@ public class PDNSDto {
         private boolean disabled = false;
     }
 
+    // PowerDNS 존 조회 응답의 rrset (조회 전용)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ServedRrset(String name, String type, Integer ttl, List<ServedRecord> records) { }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ServedRecord(String content, boolean disabled) { }
+
+    // PowerDNS 존 목록 응답의 SOA serial (조회 전용)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ZoneSerial(String name, Long serial) { }
+
     @Data
     @Builder
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -71,4 +84,14 @@ public class PDNSDto {
         private String name;    // zone domain
         private boolean canAdd;
     }
+
+    @Data
+    @Builder
+    public static class BulkRecordResult {
+        private String  subDomain,
+                        zone,
+                        type;
+        private int status;     // HTTP 상태 코드 (201 반영 완료, 202 반영 대기, 200 변경 없음, 4xx 거부)
+        private String message;
+    }
 }
@@ -0,0 +1,28 @@
+package top.nulldns.subdns.dto;
+
+import top.nulldns.subdns.config.finalconfig.Status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PENDING 적체 현황
+ * @param counts                상태별 행 수 (주기적으로 집계한 값)
+ * @param oldestPendingAt       상태별 가장 오래 머문 행의 전환 시각
+ * @param oldestPendingSeconds  상태별 가장 오래 머문 시간 (초)
+ * @param recentRuns            최근 스케줄러 실행 (최신순)
+ * @param successesPerMinute    최근 실행 기준 분당 반영 행 수
+ * @param staleRows             오래 처리되지 못하고 남은 행 (오래된 순)
+ * @param drain                 즉시 처리 진행 상황
+ */
+public record PendingBacklogDto(
+        Map<Status, Long> counts,
+        Map<Status, LocalDateTime> oldestPendingAt,
+        Map<Status, Long> oldestPendingSeconds,
+        List<SchedulerRunDto> recentRuns,
+        double successesPerMinute,
+        List<PendingRowDto> staleRows,
+        PendingDrainProgressDto drain
+) {
+}
@@ -0,0 +1,21 @@
+package top.nulldns.subdns.dto;
+
+import top.nulldns.subdns.config.finalconfig.Status;
+
+import java.time.LocalDateTime;
+
+public record PendingDrainProgressDto(
+        boolean running,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        Status currentStatus,
+        int batches,
+        long processed,
+        long succeeded,
+        long failed,
+        String error
+) {
+    public static PendingDrainProgressDto notStarted() {
+        return new PendingDrainProgressDto(false, null, null, null, 0, 0, 0, 0, null);
+    }
+}
@@ -0,0 +1,16 @@
+package top.nulldns.subdns.dto;
+
+import top.nulldns.subdns.config.finalconfig.Status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record PendingRowDto(
+        Long id,
+        String fullDomain,
+        String recordType,
+        Status status,
+        LocalDate expiryDate,
+        LocalDateTime statusChangedAt
+) {
+}
@@ -0,0 +1,33 @@
+package top.nulldns.subdns.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ReconcileReportDto(
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        boolean dryRun,
+        boolean deleteOrphans,
+        List<ZoneResult> zones
+) {
+    public record ZoneResult(
+            String zone,
+            long dbRecords,
+            long servedRrsets,
+            long pending,       // 스케줄러가 처리할 PENDING 행 (비교 제외)
+            long missing,       // DB 에만 있음 -> REPLACE
+            long mismatched,    // 내용 불일치 -> REPLACE
+            long orphaned,      // PDNS 에만 있음 -> DELETE (deleteOrphans 일 때만)
+            boolean applied,
+            String error,
+            List<Diff> diffs    // 최대 MAX_DIFFS_PER_ZONE 개
+    ) { }
+
+    public record Diff(
+            String kind,
+            String name,
+            String type,
+            String dbContent,
+            String servedContent
+    ) { }
+}
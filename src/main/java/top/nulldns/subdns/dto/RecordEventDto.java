@@ -0,0 +1,14 @@
+package top.nulldns.subdns.dto;
+
+public record RecordEventDto(
+        Long memberId,
+        String fullDomain,
+        String recordType,
+        String kind,        // PENDING, ACTIVE, DELETED, FAILED (PDNS 반영 실패 - 스케줄러 재시도 대기)
+        long at             // epoch millis
+) {
+    public static final String PENDING = "PENDING";
+    public static final String ACTIVE = "ACTIVE";
+    public static final String DELETED = "DELETED";
+    public static final String FAILED = "FAILED";
+}
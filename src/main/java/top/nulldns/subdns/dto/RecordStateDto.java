@@ -0,0 +1,14 @@
+package top.nulldns.subdns.dto;
+
+import top.nulldns.subdns.config.finalconfig.Status;
+
+// 영속성 컨텍스트를 거치지 않는 레코드 상태 스냅샷 (compare-and-set 용)
+public record RecordStateDto(
+        Long id,
+        String fullDomain,
+        String recordType,
+        long version,
+        Status domainStatus,
+        String content
+) {
+}
@@ -0,0 +1,13 @@
+package top.nulldns.subdns.dto;
+
+import top.nulldns.subdns.config.finalconfig.Status;
+
+public record RecordViewDto(
+        String fullDomain,
+        String type,
+        String content,
+        Status status,
+        String servedContent,   // PDNS 에서 실제 응답중인 값 (미확인이면 null)
+        boolean live            // content 가 실제로 응답중인지 여부
+) {
+}
@@ -0,0 +1,18 @@
+package top.nulldns.subdns.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 1회 실행 결과
+ * @param job           add-pending, update-pending, delete-pending, expiry-cleanup, drain
+ * @param rows          처리 대상 행 수
+ * @param successes     PDNS 반영에 성공한 행 수
+ */
+public record SchedulerRunDto(
+        String job,
+        LocalDateTime finishedAt,
+        long durationMs,
+        long rows,
+        long successes
+) {
+}
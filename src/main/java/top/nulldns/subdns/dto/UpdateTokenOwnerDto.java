@@ -0,0 +1,8 @@
+package top.nulldns.subdns.dto;
+
+public record UpdateTokenOwnerDto(
+        Long memberId,
+        String fullDomain,
+        boolean banned
+) {
+}
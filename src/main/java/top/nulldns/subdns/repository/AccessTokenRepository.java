@@ -0,0 +1,42 @@
+package top.nulldns.subdns.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import top.nulldns.subdns.dao.AccessToken;
+import top.nulldns.subdns.dto.AccessTokenDto;
+import top.nulldns.subdns.dto.AccessTokenOwnerDto;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AccessTokenRepository extends JpaRepository<AccessToken, Long> {
+    @Query("""
+    SELECT new top.nulldns.subdns.dto.AccessTokenOwnerDto(t.id, t.member.id, CONCAT(t.member.provider, t.member.providerId), t.member.banned)
+    FROM AccessToken t
+    WHERE t.tokenHash = :tokenHash
+    """)
+    Optional<AccessTokenOwnerDto> findOwnerByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Query("""
+    SELECT new top.nulldns.subdns.dto.AccessTokenDto(t.id, t.name, t.createdAt)
+    FROM AccessToken t
+    WHERE t.member.id = :memberId
+    ORDER BY t.id
+    """)
+    List<AccessTokenDto> findDtosByMemberId(@Param("memberId") Long memberId);
+
+    int countByMemberId(Long memberId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AccessToken t WHERE t.id = :id AND t.member.id = :memberId")
+    int deleteByIdAndMemberId(@Param("id") Long id, @Param("memberId") Long memberId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AccessToken t WHERE t.member.id = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+}
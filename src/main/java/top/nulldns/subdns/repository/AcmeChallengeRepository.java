@@ -0,0 +1,37 @@
+package top.nulldns.subdns.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import top.nulldns.subdns.dao.AcmeChallenge;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AcmeChallengeRepository extends JpaRepository<AcmeChallenge, Long> {
+    @Query("SELECT c.value FROM AcmeChallenge c WHERE c.fullDomain = :fullDomain AND c.expiresAt > :now ORDER BY c.id")
+    List<String> findLiveValues(@Param("fullDomain") String fullDomain, @Param("now") LocalDateTime now);
+
+    @Query("SELECT DISTINCT c.fullDomain FROM AcmeChallenge c WHERE c.expiresAt <= :now")
+    List<String> findExpiredFullDomains(@Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AcmeChallenge c WHERE c.fullDomain = :fullDomain AND c.expiresAt <= :now")
+    int deleteExpired(@Param("fullDomain") String fullDomain, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AcmeChallenge c WHERE c.fullDomain = :fullDomain AND c.value = :value")
+    int deleteByFullDomainAndValue(@Param("fullDomain") String fullDomain, @Param("value") String value);
+
+    @Query("SELECT DISTINCT c.fullDomain FROM AcmeChallenge c WHERE c.member.id = :memberId")
+    List<String> findFullDomainsByMemberId(@Param("memberId") Long memberId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AcmeChallenge c WHERE c.member.id = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,20 @@
+package top.nulldns.subdns.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import top.nulldns.subdns.config.finalconfig.BlocklistKind;
+import top.nulldns.subdns.dao.BlockedWord;
+import top.nulldns.subdns.dto.BlockedWordDto;
+
+import java.util.List;
+
+public interface BlockedWordRepository extends JpaRepository<BlockedWord, Long> {
+    @Query("""
+    SELECT new top.nulldns.subdns.dto.BlockedWordDto(w.id, w.kind, w.word, w.createdAt)
+    FROM BlockedWord w
+    ORDER BY w.kind, w.word
+    """)
+    List<BlockedWordDto> findAllDtos();
+
+    boolean existsByKindAndWord(BlocklistKind kind, String word);
+}
@@ -0,0 +1,13 @@
+package top.nulldns.subdns.repository;
+
+import top.nulldns.subdns.dao.HaveSubDomain;
+
+import java.util.List;
+
+public interface HaveSubDomainBatchRepository {
+    /**
+     * JDBC 배치 INSERT (IDENTITY 전략이라 JPA saveAll 로는 배치되지 않음)
+     * 생성된 id 는 엔티티에 반영되지 않으므로 필요하면 다시 조회해야 함
+     */
+    void batchInsert(List<HaveSubDomain> haveSubDomains);
+}
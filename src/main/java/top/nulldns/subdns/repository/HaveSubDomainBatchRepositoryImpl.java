@@ -0,0 +1,37 @@
+package top.nulldns.subdns.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import top.nulldns.subdns.dao.HaveSubDomain;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class HaveSubDomainBatchRepositoryImpl implements HaveSubDomainBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int BATCH_SIZE = 100;
+    private static final String INSERT_SQL = """
+            INSERT INTO have_sub_domain (member_id, full_domain, record_type, content, expiry_date, domain_status, status_changed_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    @Override
+    @Transactional
+    public void batchInsert(List<HaveSubDomain> haveSubDomains) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, haveSubDomains, BATCH_SIZE, (ps, h) -> {
+            ps.setLong(1, h.getMemberId());
+            ps.setString(2, h.getFullDomain());
+            ps.setString(3, h.getRecordType());
+            ps.setString(4, h.getContent());
+            ps.setDate(5, Date.valueOf(h.getExpiryDate()));
+            ps.setString(6, h.getDomainStatus().name());
+            ps.setTimestamp(7, h.getStatusChangedAt() == null ? now : Timestamp.valueOf(h.getStatusChangedAt()));
+        });
+    }
+}
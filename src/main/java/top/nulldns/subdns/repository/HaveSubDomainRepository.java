@@ -1,37 +1,95 @@
 package top.nulldns.subdns.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import top.nulldns.subdns.config.finalconfig.Status;
 import top.nulldns.subdns.dao.HaveSubDomain;
 import top.nulldns.subdns.dao.Member;
+import top.nulldns.subdns.dto.PendingRowDto;
+import top.nulldns.subdns.dto.RecordStateDto;
+import top.nulldns.subdns.dto.SubDomainDto;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface HaveSubDomainRepository extends JpaRepository<HaveSubDomain, Long> {
+public interface HaveSubDomainRepository extends JpaRepository<HaveSubDomain, Long>, HaveSubDomainBatchRepository {
     List<HaveSubDomain> findByMember(Member member);
 
     @Query("SELECT h FROM HaveSubDomain h WHERE h.member.id = :memberId GROUP BY h.fullDomain")
     List<HaveSubDomain> findDistinctByMemberId(Long memberId);
 
+    // id 기준 keyset 스캔 - 처리 실패한 행을 다시 읽지 않으므로 항상 앞으로 진행됨
     @Query("""
     SELECT h FROM HaveSubDomain h
     WHERE h.expiryDate < :now
-        AND h.domainStatus = :status
+        AND h.domainStatus IN :statuses
+        AND h.id > :lastId
     ORDER BY h.id ASC
     """)
-    List<HaveSubDomain> findExpired(@Param("now") LocalDate now, @Param("status") Status status , Pageable pageable);
+    List<HaveSubDomain> findExpiredAfterId(@Param("now") LocalDate now, @Param("statuses") Collection<Status> statuses, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 현재 상태가 expected 에 속한 행만 전환 - 다른 작업이 먼저 상태를 바꿨다면 건너뜀
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE HaveSubDomain h SET h.domainStatus = :next, h.statusChangedAt = :now, h.version = h.version + 1
+    WHERE h.id IN :ids
+        AND h.domainStatus IN :expected
+    """)
+    int transitionStatus(@Param("ids") Collection<Long> ids, @Param("expected") Collection<Status> expected, @Param("next") Status next, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+    DELETE FROM HaveSubDomain h
+    WHERE h.id IN :ids
+        AND h.domainStatus = top.nulldns.subdns.config.finalconfig.Status.DELETE_PENDING
+    """)
+    int deleteDeletePendingByIdIn(@Param("ids") Collection<Long> ids);
 
     List<HaveSubDomain> findByDomainStatusAndExpiryDateAfter(Status status, LocalDate date);
 
+    // 즉시 처리용 id keyset 스캔 - 스케줄러와 같은 대상(만료되지 않은 행)을 나눠서 읽음
+    @Query("""
+    SELECT h FROM HaveSubDomain h
+    WHERE h.domainStatus = :status
+        AND h.expiryDate > :date
+        AND h.id > :lastId
+    ORDER BY h.id ASC
+    """)
+    List<HaveSubDomain> findByStatusAfterId(@Param("status") Status status, @Param("date") LocalDate date, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 상태별 가장 오래된 전환 시각 (idx_domain_status_changed_at 사용)
+    @Query("SELECT h.domainStatus, MIN(h.statusChangedAt) FROM HaveSubDomain h WHERE h.domainStatus IN :statuses GROUP BY h.domainStatus")
+    List<Object[]> findOldestStatusChange(@Param("statuses") Collection<Status> statuses);
+
+    // before 이전에 전환된 뒤 그대로 남아있는 행 (오래된 순)
+    @Query("""
+    SELECT new top.nulldns.subdns.dto.PendingRowDto(h.id, h.fullDomain, h.recordType, h.domainStatus, h.expiryDate, h.statusChangedAt)
+    FROM HaveSubDomain h
+    WHERE h.domainStatus IN :statuses
+        AND h.statusChangedAt < :before
+    ORDER BY h.statusChangedAt ASC
+    """)
+    List<PendingRowDto> findStaleRows(@Param("statuses") Collection<Status> statuses, @Param("before") LocalDateTime before, Pageable pageable);
+
     List<HaveSubDomain> findByMemberAndFullDomain(Member member, String fullDomain);
 
     List<HaveSubDomain> findByFullDomain(String fullDomain);
 
+    List<HaveSubDomain> findByFullDomainIn(Collection<String> fullDomains);
+
     @Query("""
         SELECT h FROM HaveSubDomain h
                 WHERE h.fullDomain = :zone
@@ -39,6 +97,125 @@ public interface HaveSubDomainRepository extends JpaRepository<HaveSubDomain, Lo
         """)
     List<HaveSubDomain> findByZoneIncludingFullDomain(String zone);
 
+    @Query("""
+    SELECT new top.nulldns.subdns.dto.RecordStateDto(h.id, h.fullDomain, h.recordType, h.version, h.domainStatus, h.content)
+    FROM HaveSubDomain h
+    WHERE h.member = :member
+        AND h.fullDomain = :fullDomain
+        AND h.recordType = :recordType
+    """)
+    Optional<RecordStateDto> findRecordState(@Param("member") Member member, @Param("fullDomain") String fullDomain, @Param("recordType") String recordType);
+
+    @Query("""
+    SELECT new top.nulldns.subdns.dto.RecordStateDto(h.id, h.fullDomain, h.recordType, h.version, h.domainStatus, h.content)
+    FROM HaveSubDomain h
+    WHERE h.member.id = :memberId
+        AND h.fullDomain = :fullDomain
+        AND h.recordType = :recordType
+    """)
+    Optional<RecordStateDto> findRecordStateByMemberId(@Param("memberId") Long memberId, @Param("fullDomain") String fullDomain, @Param("recordType") String recordType);
+
+    @Query("""
+    SELECT new top.nulldns.subdns.dto.RecordStateDto(h.id, h.fullDomain, h.recordType, h.version, h.domainStatus, h.content)
+    FROM HaveSubDomain h
+    WHERE h.member = :member
+        AND h.fullDomain IN :fullDomains
+    """)
+    List<RecordStateDto> findRecordStates(@Param("member") Member member, @Param("fullDomains") Collection<String> fullDomains);
+
+    @Query("""
+    SELECT new top.nulldns.subdns.dto.RecordStateDto(h.id, h.fullDomain, h.recordType, h.version, h.domainStatus, h.content)
+    FROM HaveSubDomain h
+    WHERE h.id IN :ids
+    """)
+    List<RecordStateDto> findRecordStatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE HaveSubDomain h
+    SET h.content = :content,
+        h.domainStatus = top.nulldns.subdns.config.finalconfig.Status.UPDATE_PENDING,
+        h.statusChangedAt = :now,
+        h.version = h.version + 1
+    WHERE h.id = :id
+        AND h.version = :version
+        AND h.domainStatus = top.nulldns.subdns.config.finalconfig.Status.ACTIVE
+    """)
+    int compareAndSetContent(@Param("id") Long id, @Param("version") long version, @Param("content") String content, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE HaveSubDomain h
+    SET h.domainStatus = top.nulldns.subdns.config.finalconfig.Status.ACTIVE,
+        h.statusChangedAt = :now,
+        h.version = h.version + 1
+    WHERE h.id = :id
+        AND h.version = :version
+        AND h.domainStatus IN (top.nulldns.subdns.config.finalconfig.Status.ADD_PENDING, top.nulldns.subdns.config.finalconfig.Status.UPDATE_PENDING)
+    """)
+    int compareAndSetActive(@Param("id") Long id, @Param("version") long version, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE HaveSubDomain h
+    SET h.domainStatus = top.nulldns.subdns.config.finalconfig.Status.UPDATE_PENDING,
+        h.statusChangedAt = :now,
+        h.version = h.version + 1
+    WHERE h.id = :id
+        AND h.domainStatus IN (top.nulldns.subdns.config.finalconfig.Status.ACTIVE, top.nulldns.subdns.config.finalconfig.Status.UPDATE_PENDING)
+    """)
+    int markUpdatePending(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 소유자 변경도 버전 증가 - 변경 전에 읽은 상태로 compare-and-set 이 성공하지 않게 함
+    @Transactional
+    @Modifying
+    @Query("UPDATE HaveSubDomain h SET h.member = :newOwner, h.version = h.version + 1 WHERE h.fullDomain = :fullDomain")
+    int updateMemberByFullDomain(@Param("fullDomain") String fullDomain, @Param("newOwner") Member newOwner);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE HaveSubDomain h SET h.member = :newOwner, h.version = h.version + 1 WHERE h.member.id = :memberId")
+    int updateMemberByMemberId(@Param("memberId") Long memberId, @Param("newOwner") Member newOwner);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE HaveSubDomain h SET h.expiryDate = :expiryDate WHERE h.id = :id")
+    int updateExpiryDateById(@Param("id") Long id, @Param("expiryDate") LocalDate expiryDate);
+
+    // 만료일이 expiryDate 보다 이른 행만 연장 (단축하지 않음)
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE HaveSubDomain h SET h.expiryDate = :expiryDate
+                WHERE (h.fullDomain = :zone OR h.fullDomain LIKE CONCAT('%.', :zone))
+                        AND h.expiryDate < :expiryDate
+        """)
+    int extendExpiryDateByZone(@Param("zone") String zone, @Param("expiryDate") LocalDate expiryDate);
+
+    // 영속성 컨텍스트에 쌓이지 않도록 DTO 로 조회 + fetch size 지정하여 스트리밍
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT new top.nulldns.subdns.dto.SubDomainDto(h.fullDomain, h.recordType, h.content)
+        FROM HaveSubDomain h
+                WHERE (h.fullDomain = :zone OR h.fullDomain LIKE CONCAT('%.', :zone))
+                        AND h.domainStatus <> top.nulldns.subdns.config.finalconfig.Status.DELETE_PENDING
+        ORDER BY h.fullDomain ASC, h.recordType ASC
+        """)
+    Stream<SubDomainDto> streamByZone(@Param("zone") String zone);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT new top.nulldns.subdns.dto.RecordStateDto(h.id, h.fullDomain, h.recordType, h.version, h.domainStatus, h.content)
+        FROM HaveSubDomain h
+                WHERE h.fullDomain = :zone
+                        OR h.fullDomain LIKE CONCAT('%.', :zone)
+        ORDER BY h.fullDomain ASC, h.recordType ASC
+        """)
+    Stream<RecordStateDto> streamStatesByZone(@Param("zone") String zone);
+
     @Query("select count(distinct h.fullDomain) from HaveSubDomain h where h.member.id = :memberId")
     int countDistinctFullDomainByMemberId(Long memberId);
 
@@ -62,4 +239,7 @@ public interface HaveSubDomainRepository extends JpaRepository<HaveSubDomain, Lo
 
     @Query("SELECT h.recordType, COUNT(h) FROM HaveSubDomain h GROUP BY h.recordType")
     List<Object[]> countByRecordType();
+
+    @Query("SELECT h.domainStatus, COUNT(h) FROM HaveSubDomain h GROUP BY h.domainStatus")
+    List<Object[]> countByDomainStatus();
 }
@@ -1,9 +1,14 @@
 package top.nulldns.subdns.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import top.nulldns.subdns.config.finalconfig.Status;
 import top.nulldns.subdns.dao.Member;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +20,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     List<Member> findByProviderIdContaining(String providerId);
 
     List<Member> findByBanned(boolean banned);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.banned = :banned WHERE m.id IN :ids")
+    int updateBannedByIdIn(@Param("ids") Collection<Long> ids, @Param("banned") boolean banned);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.maxRecords = :maxRecords WHERE m.id = :id")
+    int updateMaxRecordsById(@Param("id") Long id, @Param("maxRecords") int maxRecords);
 }
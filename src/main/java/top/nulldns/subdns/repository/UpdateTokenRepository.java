@@ -0,0 +1,30 @@
+package top.nulldns.subdns.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import top.nulldns.subdns.dao.UpdateToken;
+import top.nulldns.subdns.dto.UpdateTokenOwnerDto;
+
+import java.util.Optional;
+
+public interface UpdateTokenRepository extends JpaRepository<UpdateToken, Long> {
+    @Query("""
+    SELECT new top.nulldns.subdns.dto.UpdateTokenOwnerDto(t.member.id, t.fullDomain, t.member.banned)
+    FROM UpdateToken t
+    WHERE t.tokenHash = :tokenHash
+    """)
+    Optional<UpdateTokenOwnerDto> findOwnerByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UpdateToken t WHERE t.fullDomain = :fullDomain")
+    int deleteByFullDomain(@Param("fullDomain") String fullDomain);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UpdateToken t WHERE t.member.id = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+}
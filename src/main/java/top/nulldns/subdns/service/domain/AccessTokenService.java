@@ -0,0 +1,104 @@
+package top.nulldns.subdns.service.domain;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import top.nulldns.subdns.dao.AccessToken;
+import top.nulldns.subdns.dao.Member;
+import top.nulldns.subdns.dto.AccessTokenDto;
+import top.nulldns.subdns.dto.AccessTokenOwnerDto;
+import top.nulldns.subdns.repository.AccessTokenRepository;
+import top.nulldns.subdns.util.TokenUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// DB Service
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccessTokenService {
+    private final AccessTokenRepository accessTokenRepository;
+
+    public static final String TOKEN_PREFIX = "ndp_";
+    private static final int MAX_TOKENS_PER_MEMBER = 10;
+    private static final long CACHE_TTL_MILLIS = 5 * 60 * 1000L;        // 폐기/정지가 다른 노드에 반영되기까지 최대 지연
+    private static final long NEGATIVE_CACHE_TTL_MILLIS = 30 * 1000L;
+    private static final int MAX_CACHE_SIZE = 100_000;
+
+    // 토큰 해시 -> 소유 정보 (owner 가 null 이면 없는 토큰)
+    private final Map<String, CachedOwner> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 토큰 발급
+     * @return String 토큰 원문 (다시 조회할 수 없음)
+     */
+    public String issue(Member member, String name) {
+        if (name == null || name.isBlank() || name.length() > 50) {
+            throw new IllegalArgumentException("토큰 이름이 옳바르지 않음");
+        }
+        if (accessTokenRepository.countByMemberId(member.getId()) >= MAX_TOKENS_PER_MEMBER) {
+            throw new IllegalStateException("최대 토큰 수 초과");
+        }
+
+        String token = TokenUtil.generate(TOKEN_PREFIX);
+        accessTokenRepository.save(
+                AccessToken.builder()
+                        .member(member)
+                        .name(name.trim())
+                        .tokenHash(TokenUtil.hash(token))
+                        .build()
+        );
+        return token;
+    }
+
+    public List<AccessTokenDto> getTokens(Long memberId) {
+        return accessTokenRepository.findDtosByMemberId(memberId);
+    }
+
+    public void revoke(Long memberId, Long tokenId) {
+        if (accessTokenRepository.deleteByIdAndMemberId(tokenId, memberId) == 0) {
+            throw new NoSuchElementException("존재하지 않는 토큰입니다.");
+        }
+        cache.values().removeIf(cached -> cached.owner() != null && cached.owner().tokenId().equals(tokenId));
+    }
+
+    public void revokeAll(Long memberId) {
+        accessTokenRepository.deleteByMemberId(memberId);
+        cache.values().removeIf(cached -> cached.owner() != null && cached.owner().memberId().equals(memberId));
+    }
+
+    /**
+     * 토큰 원문으로 소유 정보 조회 (로컬 캐시 우선)
+     */
+    public Optional<AccessTokenOwnerDto> resolve(String token) {
+        if (token == null || !token.startsWith(TOKEN_PREFIX)) {
+            return Optional.empty();
+        }
+
+        String tokenHash = TokenUtil.hash(token);
+        long now = System.currentTimeMillis();
+
+        CachedOwner cached = cache.get(tokenHash);
+        if (cached != null && cached.expiresAt() > now) {
+            return Optional.ofNullable(cached.owner());
+        }
+
+        Optional<AccessTokenOwnerDto> owner = accessTokenRepository.findOwnerByTokenHash(tokenHash);
+
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.put(tokenHash, new CachedOwner(
+                owner.orElse(null),
+                now + (owner.isPresent() ? CACHE_TTL_MILLIS : NEGATIVE_CACHE_TTL_MILLIS)
+        ));
+
+        return owner;
+    }
+
+    private record CachedOwner(AccessTokenOwnerDto owner, long expiresAt) { }
+}
@@ -0,0 +1,54 @@
+package top.nulldns.subdns.service.domain;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import top.nulldns.subdns.dao.AcmeChallenge;
+import top.nulldns.subdns.dao.Member;
+import top.nulldns.subdns.repository.AcmeChallengeRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// DB Service
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AcmeChallengeService {
+    private final AcmeChallengeRepository acmeChallengeRepository;
+
+    public void newChallenge(Member member, String fullDomain, String value, LocalDateTime expiresAt) {
+        acmeChallengeRepository.save(
+                AcmeChallenge.builder()
+                        .member(member)
+                        .fullDomain(fullDomain)
+                        .value(value)
+                        .expiresAt(expiresAt)
+                        .build()
+        );
+    }
+
+    public List<String> getLiveValues(String fullDomain) {
+        return acmeChallengeRepository.findLiveValues(fullDomain, LocalDateTime.now());
+    }
+
+    public List<String> getExpiredFullDomains(LocalDateTime now) {
+        return acmeChallengeRepository.findExpiredFullDomains(now);
+    }
+
+    public int deleteExpired(String fullDomain, LocalDateTime now) {
+        return acmeChallengeRepository.deleteExpired(fullDomain, now);
+    }
+
+    public int deleteChallenge(String fullDomain, String value) {
+        return acmeChallengeRepository.deleteByFullDomainAndValue(fullDomain, value);
+    }
+
+    public List<String> getFullDomainsByMemberId(Long memberId) {
+        return acmeChallengeRepository.findFullDomainsByMemberId(memberId);
+    }
+
+    public int deleteByMemberId(Long memberId) {
+        return acmeChallengeRepository.deleteByMemberId(memberId);
+    }
+}
@@ -0,0 +1,106 @@
+package top.nulldns.subdns.service.domain;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import top.nulldns.subdns.config.finalconfig.BlocklistKind;
+import top.nulldns.subdns.dao.BlockedWord;
+import top.nulldns.subdns.dto.BlockedWordDto;
+import top.nulldns.subdns.repository.BlockedWordRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+// DB Service
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BlockedWordService {
+    private final BlockedWordRepository blockedWordRepository;
+
+    private static final int MAX_WORD_LENGTH = 253;
+
+    public List<BlockedWordDto> getAll() {
+        return blockedWordRepository.findAllDtos();
+    }
+
+    /**
+     * 금지어 추가 (소문자로 저장)
+     * @throws IllegalArgumentException 형식 오류
+     * @throws IllegalStateException    이미 등록된 금지어
+     */
+    public BlockedWordDto add(BlocklistKind kind, String word) {
+        String normalized = normalize(kind, word);
+        if (blockedWordRepository.existsByKindAndWord(kind, normalized)) {
+            throw new IllegalStateException("이미 등록된 금지어입니다.");
+        }
+
+        BlockedWord saved = blockedWordRepository.save(
+                BlockedWord.builder()
+                        .kind(kind)
+                        .word(normalized)
+                        .build()
+        );
+        return new BlockedWordDto(saved.getId(), saved.getKind(), saved.getWord(), saved.getCreatedAt());
+    }
+
+    public void remove(Long id) {
+        if (!blockedWordRepository.existsById(id)) {
+            throw new NoSuchElementException("존재하지 않는 금지어입니다.");
+        }
+        blockedWordRepository.deleteById(id);
+    }
+
+    /**
+     * 테이블이 비어 있을 때만 기본 금지어 등록 (최초 배포 시 1회)
+     * @return boolean 등록 여부
+     */
+    @Transactional
+    public boolean seedIfEmpty(Map<BlocklistKind, ? extends Collection<String>> defaults) {
+        if (blockedWordRepository.count() > 0) {
+            return false;
+        }
+
+        List<BlockedWord> entities = new ArrayList<>();
+        defaults.forEach((kind, words) -> {
+            for (String word : words) {
+                entities.add(BlockedWord.builder().kind(kind).word(word.toLowerCase(Locale.ROOT)).build());
+            }
+        });
+        blockedWordRepository.saveAll(entities);
+        return true;
+    }
+
+    private String normalize(BlocklistKind kind, String word) {
+        if (kind == null || word == null) {
+            throw new IllegalArgumentException("금지어가 옳바르지 않음");
+        }
+
+        String normalized = word.trim().toLowerCase(Locale.ROOT);
+        if (kind == BlocklistKind.CNAME_TARGET && normalized.endsWith(".")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        if (normalized.isEmpty() || normalized.length() > MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("금지어가 옳바르지 않음");
+        }
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            boolean ldh = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-';
+            boolean allowed = switch (kind) {
+                case CONTAINS -> ldh;                   // 라벨 문자 외에는 어떤 라벨과도 일치할 수 없음
+                case CNAME_TARGET -> ldh || c == '.';
+                case EXACT -> ldh || c == '_' || c == '.';
+            };
+            if (!allowed) {
+                throw new IllegalArgumentException("금지어가 옳바르지 않음");
+            }
+        }
+        return normalized;
+    }
+}
@@ -1,10 +1,11 @@
 package top.nulldns.subdns.service.domain;
 
-import jakarta.annotation.PostConstruct;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import top.nulldns.subdns.common.jfr.CacheRefreshEvent;
 import top.nulldns.subdns.dao.Admin;
 import top.nulldns.subdns.repository.AdminRepository;
 
@@ -18,14 +19,15 @@ import java.util.Set;
 @Slf4j
 public class CheckAdminService {
     private final AdminRepository adminRepository;
-    private Set<Long> adminSet;
+    private volatile Set<Long> adminSet = Set.of();
+    @Getter
+    private volatile boolean loaded;
 
-    @PostConstruct
-    private void init() {
-        adminSet = new HashSet<>();
-        if (!refreshAdminSet()) {
-            log.error("관리자 목록 초기화에 실패하였습니다.");
-        }
+    /**
+     * 관리자 목록 다시 읽기 (시작 시에는 CacheWarmupService 가 성공할 때까지 호출)
+     */
+    public boolean refresh() {
+        return refreshAdminSet();
     }
 
     @Scheduled(cron = "0 0 0 * * ?")
@@ -40,6 +42,10 @@ public class CheckAdminService {
     }
 
     private boolean refreshAdminSet() {
+        CacheRefreshEvent event = new CacheRefreshEvent();
+        event.begin();
+        int entries = -1;
+        boolean success = false;
         try {
             List<Admin> admins = adminRepository.findAll();
 
@@ -48,11 +54,22 @@ public class CheckAdminService {
                 newAdminSet.add(admin.getMember().getId());
             }
             adminSet = Set.copyOf(newAdminSet);
+            loaded = true;
 
+            entries = newAdminSet.size();
+            success = true;
             return true;
         } catch (Exception e) {
             log.error("관리자 목록 갱신 중 에러 발생", e);
             return false;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.cache = CacheRefreshEvent.ADMINS;
+                event.entries = entries;
+                event.success = success;
+                event.commit();
+            }
         }
     }
 }
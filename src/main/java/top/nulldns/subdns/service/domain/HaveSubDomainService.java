@@ -5,16 +5,27 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import top.nulldns.subdns.config.finalconfig.Status;
 import top.nulldns.subdns.dao.HaveSubDomain;
 import top.nulldns.subdns.dao.Member;
+import top.nulldns.subdns.dto.PendingRowDto;
+import top.nulldns.subdns.dto.RecordStateDto;
 import top.nulldns.subdns.dto.SubDomainDto;
 import top.nulldns.subdns.repository.HaveSubDomainRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 // DB Service
 @Service
@@ -23,6 +34,9 @@ import java.util.List;
 public class HaveSubDomainService {
     private final HaveSubDomainRepository haveSubDomainRepository;
 
+    private static final List<Status> EXPIRY_TARGET_STATUSES = List.of(Status.ACTIVE, Status.DELETE_PENDING);
+    private static final List<Status> DELETABLE_STATUSES = List.of(Status.ACTIVE, Status.ADD_PENDING, Status.UPDATE_PENDING);
+
     public void renewDate(Member member, String fullDomain) {
         List<HaveSubDomain> subDomains = haveSubDomainRepository.findByMemberAndFullDomain(member, fullDomain);
         if (subDomains.isEmpty()) {
@@ -39,34 +53,44 @@ public class HaveSubDomainService {
         }
     }
 
-    public void updateContentAndSetPending(HaveSubDomain haveSubDomain, String content) {
+    /**
+     * @return HaveSubDomain 저장된 엔티티 (증가된 version 은 반환값 기준)
+     */
+    public HaveSubDomain updateContentAndSetPending(HaveSubDomain haveSubDomain, String content) {
         haveSubDomain.changeToUpdatePending();
         haveSubDomain.updateContent(content);
-        haveSubDomainRepository.save(haveSubDomain);
+        return haveSubDomainRepository.save(haveSubDomain);
     }
 
-    public void setStatusActivity(List<HaveSubDomain> haveSubDomains) {
-        for (HaveSubDomain haveSubDomain : haveSubDomains) {
-            haveSubDomain.changeToActive();
+    /**
+     * 일괄 ACTIVE 전환 (UPDATE 1회)
+     * @param haveSubDomains 대상 엔티티
+     * @param expected       현재 상태 - 그 사이 상태가 바뀐 행은 전환하지 않음
+     * @return int           실제 전환된 행 수
+     */
+    public int setStatusActivity(List<HaveSubDomain> haveSubDomains, Status expected) {
+        if (haveSubDomains.isEmpty()) {
+            return 0;
         }
-
-        haveSubDomainRepository.saveAll(haveSubDomains);
+        return haveSubDomainRepository.transitionStatus(toIds(haveSubDomains), List.of(expected), Status.ACTIVE, LocalDateTime.now());
     }
 
-    public void setStatusActivity(HaveSubDomain haveSubDomain) {
-        haveSubDomain.changeToActive();
-        haveSubDomainRepository.save(haveSubDomain);
+    public int setStatusActivity(List<HaveSubDomain> haveSubDomains, Collection<Status> expected) {
+        if (haveSubDomains.isEmpty()) {
+            return 0;
+        }
+        return haveSubDomainRepository.transitionStatus(toIds(haveSubDomains), expected, Status.ACTIVE, LocalDateTime.now());
     }
 
-    public void setDeletePending(List<HaveSubDomain> haveSubDomains) {
-        for (HaveSubDomain haveSubDomain : haveSubDomains) {
-            haveSubDomain.changeToDeletePending();
-        }
-        haveSubDomainRepository.saveAll(haveSubDomains);
+    public int setDeletePending(List<HaveSubDomain> haveSubDomains) {
+        return setDeletePendingByIds(toIds(haveSubDomains));
     }
 
-    public void deleteSubDomains(List<HaveSubDomain> haveSubDomains) {
-        haveSubDomainRepository.deleteAll(haveSubDomains);
+    /**
+     * 일괄 삭제 (DELETE 1회) - DELETE_PENDING 상태인 행만 삭제함
+     */
+    public int deleteSubDomains(List<HaveSubDomain> haveSubDomains) {
+        return deleteSubDomainsByIds(toIds(haveSubDomains));
     }
 
     public int getOwnedDomainCount(Long memberId) {
@@ -89,6 +113,69 @@ public class HaveSubDomainService {
         return haveSubDomainRepository.findByMemberAndFullDomainAndRecordType(member, fullDomain, recordType);
     }
 
+    public Optional<RecordStateDto> getRecordState(Member member, String fullDomain, String recordType) {
+        return haveSubDomainRepository.findRecordState(member, fullDomain, recordType);
+    }
+
+    public Optional<RecordStateDto> getRecordState(Long memberId, String fullDomain, String recordType) {
+        return haveSubDomainRepository.findRecordStateByMemberId(memberId, fullDomain, recordType);
+    }
+
+    /**
+     * ACTIVE 상태이고 버전이 같을 때만 content 수정 + UPDATE_PENDING 전환
+     * @return boolean 성공 여부 (실패 시 다른 작업이 먼저 수정한 것)
+     */
+    public boolean compareAndSetContent(RecordStateDto state, String content) {
+        return haveSubDomainRepository.compareAndSetContent(state.id(), state.version(), content, LocalDateTime.now()) == 1;
+    }
+
+    public boolean compareAndSetActive(Long id, long version) {
+        return haveSubDomainRepository.compareAndSetActive(id, version, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * ACTIVE / UPDATE_PENDING 행을 UPDATE_PENDING 으로 (버전 증가)
+     * 이미 UPDATE_PENDING 이어도 버전을 올려서, 그 행을 반영 중인 다른 요청의 compareAndSetActive 가 실패하게 함
+     */
+    public void markUpdatePending(Long id) {
+        haveSubDomainRepository.markUpdatePending(id, LocalDateTime.now());
+    }
+
+    /**
+     * PDNS 반영 후 ACTIVE 전환 - 반영한 값의 버전 그대로일 때만
+     * 그 사이 다른 요청이 수정했다면 PDNS 반영 순서를 보장할 수 없으므로 UPDATE_PENDING 으로 되돌려 스케줄러가 DB 최신 값으로 다시 반영
+     * @param version 반영한 값을 쓴 직후의 버전
+     * @return boolean ACTIVE 전환 여부
+     */
+    public boolean activateOrRequeue(Long id, long version) {
+        if (compareAndSetActive(id, version)) {
+            return true;
+        }
+        markUpdatePending(id);
+        return false;
+    }
+
+    public List<RecordStateDto> getRecordStates(Member member, Collection<String> fullDomains) {
+        return haveSubDomainRepository.findRecordStates(member, fullDomains);
+    }
+
+    public List<RecordStateDto> getRecordStatesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return haveSubDomainRepository.findRecordStatesByIdIn(ids);
+    }
+
+    /**
+     * 신규 레코드 일괄 저장 (배치 INSERT) - expiryDate, domainStatus 는 호출측에서 지정해야 함
+     */
+    public void newHaveSubDomains(List<HaveSubDomain> haveSubDomains) {
+        if (haveSubDomains.isEmpty()) {
+            return;
+        }
+        haveSubDomainRepository.batchInsert(haveSubDomains);
+    }
+
     public HaveSubDomain newHaveSubDomain(Member member, String fullDomain, String recordType, String content, LocalDate expiryDate) {
         return haveSubDomainRepository.save(
                 HaveSubDomain.builder()
@@ -110,6 +197,29 @@ public class HaveSubDomainService {
         return haveSubDomainRepository.findByDomainStatusAndExpiryDateAfter(status, LocalDate.now());
     }
 
+    /**
+     * 만료되지 않은 status 상태 행 조회 (id keyset 방식)
+     * @param lastId    이전 배치의 마지막 id (처음이면 0)
+     * @param limit     최대 조회 개수
+     */
+    public List<HaveSubDomain> getAvailableSubDomains(Status status, long lastId, int limit) {
+        return haveSubDomainRepository.findByStatusAfterId(status, LocalDate.now(), lastId, PageRequest.of(0, limit));
+    }
+
+    public Map<Status, LocalDateTime> getOldestStatusChanges(Collection<Status> statuses) {
+        Map<Status, LocalDateTime> oldest = new EnumMap<>(Status.class);
+        for (Object[] row : haveSubDomainRepository.findOldestStatusChange(statuses)) {
+            if (row[1] != null) {
+                oldest.put((Status) row[0], (LocalDateTime) row[1]);
+            }
+        }
+        return oldest;
+    }
+
+    public List<PendingRowDto> getStaleRows(Collection<Status> statuses, LocalDateTime before, int limit) {
+        return haveSubDomainRepository.findStaleRows(statuses, before, PageRequest.of(0, limit));
+    }
+
     public List<HaveSubDomain> getMemberSubDomains(Member member) {
         return haveSubDomainRepository.findByMember(member);
     }
@@ -121,12 +231,59 @@ public class HaveSubDomainService {
         return haveSubDomainRepository.findByMemberAndFullDomain(member, fullDomain);
     }
 
+    public List<HaveSubDomain> getSubDomainsByFullDomains(Collection<String> fullDomains) {
+        return haveSubDomainRepository.findByFullDomainIn(fullDomains);
+    }
+
     public List<HaveSubDomain> getSubDomainsByZone(String zone) {
         return haveSubDomainRepository.findByZoneIncludingFullDomain(zone);
     }
 
-    public List<HaveSubDomain> getExpiredSubDomains(LocalDate date, int limit) {
-        return haveSubDomainRepository.findExpired(date, Status.ACTIVE, PageRequest.of(0, limit));
+    /**
+     * 존에 속한 레코드를 메모리에 모으지 않고 하나씩 전달 (정렬: fullDomain, recordType)
+     * @param zone      nulldns.top, example.com 등
+     * @param consumer  레코드 처리기
+     */
+    @Transactional(readOnly = true)
+    public void forEachRecordInZone(String zone, Consumer<SubDomainDto> consumer) {
+        try (Stream<SubDomainDto> records = haveSubDomainRepository.streamByZone(zone)) {
+            records.forEach(consumer);
+        }
+    }
+
+    /**
+     * 존에 속한 레코드 상태를 상태 구분 없이 하나씩 전달 (정렬: fullDomain, recordType)
+     */
+    @Transactional(readOnly = true)
+    public void forEachRecordStateInZone(String zone, Consumer<RecordStateDto> consumer) {
+        try (Stream<RecordStateDto> states = haveSubDomainRepository.streamStatesByZone(zone)) {
+            states.forEach(consumer);
+        }
+    }
+
+    /**
+     * 만료된 서브도메인 조회 (id keyset 방식)
+     * 이전 회차에서 PDNS 반영 실패로 DELETE_PENDING 에 남은 행도 함께 조회함
+     * @param date      기준 날짜
+     * @param lastId    이전 배치의 마지막 id (처음이면 0)
+     * @param limit     최대 조회 개수
+     */
+    public List<HaveSubDomain> getExpiredSubDomains(LocalDate date, long lastId, int limit) {
+        return haveSubDomainRepository.findExpiredAfterId(date, EXPIRY_TARGET_STATUSES, lastId, PageRequest.of(0, limit));
+    }
+
+    public int setDeletePendingByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return haveSubDomainRepository.transitionStatus(ids, DELETABLE_STATUSES, Status.DELETE_PENDING, LocalDateTime.now());
+    }
+
+    public int deleteSubDomainsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return haveSubDomainRepository.deleteDeletePendingByIdIn(ids);
     }
 
     public List<SubDomainDto> getSubDomainDTOs(String fullDomain) {
@@ -150,21 +307,28 @@ public class HaveSubDomainService {
         return haveSubDomainRepository.findAll();
     }
 
-    public void transferOwnership(String fullDomain, Member newOwner) {
-        List<HaveSubDomain> subDomains = haveSubDomainRepository.findByFullDomain(fullDomain);
-        for (HaveSubDomain subDomain : subDomains) {
-            haveSubDomainRepository.save(HaveSubDomain.builder()
-                    .id(subDomain.getId())
-                    .member(newOwner)
-                    .fullDomain(subDomain.getFullDomain())
-                    .recordType(subDomain.getRecordType())
-                    .content(subDomain.getContent())
-                    .expiryDate(subDomain.getExpiryDate())
-                    .domainStatus(subDomain.getDomainStatus())
-                    .build());
+    public int transferOwnership(String fullDomain, Member newOwner) {
+        return haveSubDomainRepository.updateMemberByFullDomain(fullDomain, newOwner);
+    }
+
+    public int transferAllOwnership(Long fromMemberId, Member newOwner) {
+        return haveSubDomainRepository.updateMemberByMemberId(fromMemberId, newOwner);
+    }
+
+    public void updateExpiryDate(Long id, LocalDate expiryDate) {
+        if (haveSubDomainRepository.updateExpiryDateById(id, expiryDate) == 0) {
+            throw new NoSuchElementException("존재하지 않는 도메인입니다.");
         }
     }
 
+    public int extendExpiryDateByZone(String zone, LocalDate expiryDate) {
+        return haveSubDomainRepository.extendExpiryDateByZone(zone, expiryDate);
+    }
+
+    private List<Long> toIds(List<HaveSubDomain> haveSubDomains) {
+        return haveSubDomains.stream().map(HaveSubDomain::getId).toList();
+    }
+
     public long getTotalDomainCount() {
         return haveSubDomainRepository.countTotalDomains();
     }
@@ -172,4 +336,8 @@ public class HaveSubDomainService {
     public List<Object[]> getRecordTypeStats() {
         return haveSubDomainRepository.countByRecordType();
     }
+
+    public List<Object[]> getStatusStats() {
+        return haveSubDomainRepository.countByDomainStatus();
+    }
 }
@@ -51,30 +51,25 @@ public class MemberService {
     }
 
     public void setBanned(Long memberId, boolean banned) {
-        Member member = getMemberById(memberId);
         // Admin은 정지 불가능하게 (옵션)
         // if (checkAdminService.isAdmin(memberId)) return; 
         // -> MemberService는 Domain Service라 Facade에서 처리하거나 여기서 직접 확인
-        memberRepository.save(Member.builder()
-                .id(member.getId())
-                .provider(member.getProvider())
-                .providerId(member.getProviderId())
-                .maxRecords(member.getMaxRecords())
-                .banned(banned)
-                .status(member.getStatus())
-                .build());
+        if (memberRepository.updateBannedByIdIn(List.of(memberId), banned) == 0) {
+            throw new NoSuchElementException("비정상적인 접근 (없는 계정입니다)");
+        }
+    }
+
+    public int setBanned(List<Long> memberIds, boolean banned) {
+        if (memberIds.isEmpty()) {
+            return 0;
+        }
+        return memberRepository.updateBannedByIdIn(memberIds, banned);
     }
 
     public void updateMaxRecords(Long memberId, int maxRecords) {
-        Member member = getMemberById(memberId);
-        memberRepository.save(Member.builder()
-                .id(member.getId())
-                .provider(member.getProvider())
-                .providerId(member.getProviderId())
-                .maxRecords(maxRecords)
-                .banned(member.isBanned())
-                .status(member.getStatus())
-                .build());
+        if (memberRepository.updateMaxRecordsById(memberId, maxRecords) == 0) {
+            throw new NoSuchElementException("비정상적인 접근 (없는 계정입니다)");
+        }
     }
 
     public long getTotalCount() {
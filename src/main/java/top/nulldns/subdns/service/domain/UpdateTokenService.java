@@ -0,0 +1,97 @@
+package top.nulldns.subdns.service.domain;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import top.nulldns.subdns.dao.Member;
+import top.nulldns.subdns.dao.UpdateToken;
+import top.nulldns.subdns.dto.UpdateTokenOwnerDto;
+import top.nulldns.subdns.repository.UpdateTokenRepository;
+import top.nulldns.subdns.util.TokenUtil;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// DB Service
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UpdateTokenService {
+    private final UpdateTokenRepository updateTokenRepository;
+
+    private static final String TOKEN_PREFIX = "ndt_";
+    private static final long CACHE_TTL_MILLIS = 5 * 60 * 1000L;        // 재발급/정지가 다른 노드에 반영되기까지 최대 지연
+    private static final long NEGATIVE_CACHE_TTL_MILLIS = 30 * 1000L;   // 잘못된 토큰 반복 요청 시 DB 조회 방지
+    private static final int MAX_CACHE_SIZE = 100_000;
+
+    // 토큰 해시 -> 소유 정보 (owner 가 null 이면 없는 토큰)
+    private final Map<String, CachedOwner> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 토큰 발급 - 기존 토큰은 폐기됨
+     * @return String 토큰 원문 (다시 조회할 수 없음)
+     */
+    @Transactional
+    public String issue(Member member, String fullDomain) {
+        String token = TokenUtil.generate(TOKEN_PREFIX);
+
+        updateTokenRepository.deleteByFullDomain(fullDomain);
+        updateTokenRepository.save(
+                UpdateToken.builder()
+                        .member(member)
+                        .fullDomain(fullDomain)
+                        .tokenHash(TokenUtil.hash(token))
+                        .build()
+        );
+
+        evict(fullDomain);
+        return token;
+    }
+
+    public void revoke(String fullDomain) {
+        updateTokenRepository.deleteByFullDomain(fullDomain);
+        evict(fullDomain);
+    }
+
+    public void revokeAll(Long memberId) {
+        updateTokenRepository.deleteByMemberId(memberId);
+        cache.values().removeIf(cached -> cached.owner() != null && cached.owner().memberId().equals(memberId));
+    }
+
+    /**
+     * 토큰 원문으로 소유 정보 조회 (로컬 캐시 우선)
+     */
+    public Optional<UpdateTokenOwnerDto> resolve(String token) {
+        if (token == null || !token.startsWith(TOKEN_PREFIX)) {
+            return Optional.empty();
+        }
+
+        String tokenHash = TokenUtil.hash(token);
+        long now = System.currentTimeMillis();
+
+        CachedOwner cached = cache.get(tokenHash);
+        if (cached != null && cached.expiresAt() > now) {
+            return Optional.ofNullable(cached.owner());
+        }
+
+        Optional<UpdateTokenOwnerDto> owner = updateTokenRepository.findOwnerByTokenHash(tokenHash);
+
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.put(tokenHash, new CachedOwner(
+                owner.orElse(null),
+                now + (owner.isPresent() ? CACHE_TTL_MILLIS : NEGATIVE_CACHE_TTL_MILLIS)
+        ));
+
+        return owner;
+    }
+
+    private void evict(String fullDomain) {
+        cache.values().removeIf(cached -> cached.owner() != null && cached.owner().fullDomain().equals(fullDomain));
+    }
+
+    private record CachedOwner(UpdateTokenOwnerDto owner, long expiresAt) { }
+}
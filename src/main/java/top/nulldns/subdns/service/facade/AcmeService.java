@@ -0,0 +1,248 @@
+package top.nulldns.subdns.service.facade;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import top.nulldns.subdns.config.finalconfig.Action;
+import top.nulldns.subdns.dao.Member;
+import top.nulldns.subdns.dto.AcmeChallengeDto;
+import top.nulldns.subdns.dto.PDNSDto;
+import top.nulldns.subdns.service.domain.AcmeChallengeService;
+import top.nulldns.subdns.service.domain.HaveSubDomainService;
+import top.nulldns.subdns.service.domain.MemberService;
+import top.nulldns.subdns.service.infra.LockService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+
+/**
+ * ACME DNS-01 인증 레코드 (_acme-challenge.{보유 도메인} TXT)
+ * 일반 레코드와 달리 스케줄러를 거치지 않고 요청 스레드에서 바로 PDNS 에 반영, 반영 확인까지 기다림
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AcmeService {
+    private final AcmeChallengeService acmeChallengeService;
+    private final HaveSubDomainService haveSubDomainService;
+    private final MemberService memberService;
+    private final PDNSService pdnsService;
+    private final LockService lockService;
+
+    public static final String CHALLENGE_LABEL = "_acme-challenge";
+
+    private static final int CHALLENGE_TTL = 60;
+    private static final Duration CHALLENGE_LIFETIME = Duration.ofHours(1);
+    private static final int MAX_VALUES_PER_DOMAIN = 5;     // 와일드카드 + apex 동시 발급 등
+    private static final Pattern VALUE_PATTERN = Pattern.compile("^[A-Za-z0-9_-]{1,255}$"); // base64url
+
+    private static final String LOCK_KEY_PREFIX = "acme:";
+    private static final String GC_LOCK_KEY = "acme:gc";
+    private static final int LOCK_WAIT_ATTEMPTS = 20;
+    private static final long LOCK_WAIT_MILLIS = 100;
+    private static final int PUSH_ATTEMPTS = 3;
+    private static final int VISIBILITY_CHECKS = 5;
+    private static final long RETRY_BASE_MILLIS = 200;
+
+    /**
+     * 인증 값 추가 후 PDNS 반영
+     * @param value ACME 서버가 준 key authorization digest (base64url)
+     */
+    public AcmeChallengeDto present(Long memberId, String subDomain, String zone, String value) {
+        if (value == null || !VALUE_PATTERN.matcher(value).matches()) {
+            throw new IllegalArgumentException("옳바르지 않은 인증 값");
+        }
+
+        Member member = memberService.getMemberById(memberId);
+        String fullDomain = subDomain.toLowerCase().trim() + "." + zone.toLowerCase().trim();
+        if (!haveSubDomainService.isOwnerOfDomain(member, fullDomain)) {
+            throw new NoSuchElementException("보유 도메인이 아님");
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(CHALLENGE_LIFETIME);
+        String lockKey = LOCK_KEY_PREFIX + fullDomain;
+        String lockValue = this.lockWithWait(lockKey);
+
+        try {
+            List<String> values = acmeChallengeService.getLiveValues(fullDomain);
+            if (!values.contains(value)) {
+                if (values.size() >= MAX_VALUES_PER_DOMAIN) {
+                    throw new IllegalStateException("인증 값 개수 초과");
+                }
+                acmeChallengeService.newChallenge(member, fullDomain, value, expiresAt);
+            }
+
+            try {
+                this.push(fullDomain, acmeChallengeService.getLiveValues(fullDomain));
+            } catch (Exception e) {
+                acmeChallengeService.deleteChallenge(fullDomain, value);
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "PDNS 반영 실패");
+            }
+        } finally {
+            lockService.unlock(lockKey, lockValue);
+        }
+
+        boolean visible = this.waitUntilVisible(fullDomain, value);
+        return new AcmeChallengeDto(challengeName(fullDomain), value, CHALLENGE_TTL, expiresAt, visible);
+    }
+
+    /**
+     * 인증 값 제거 (발급 완료 후 클라이언트 정리 훅)
+     */
+    public void cleanup(Long memberId, String subDomain, String zone, String value) {
+        Member member = memberService.getMemberById(memberId);
+        String fullDomain = subDomain.toLowerCase().trim() + "." + zone.toLowerCase().trim();
+        if (!haveSubDomainService.isOwnerOfDomain(member, fullDomain)) {
+            throw new NoSuchElementException("보유 도메인이 아님");
+        }
+
+        String lockKey = LOCK_KEY_PREFIX + fullDomain;
+        String lockValue = this.lockWithWait(lockKey);
+        try {
+            acmeChallengeService.deleteChallenge(fullDomain, value);
+            // 실패해도 만료 정리에서 다시 반영함
+            this.push(fullDomain, acmeChallengeService.getLiveValues(fullDomain));
+        } catch (Exception e) {
+            log.warn("ACME 인증 값 정리 반영 실패: {} - {}", fullDomain, e.getMessage());
+        } finally {
+            lockService.unlock(lockKey, lockValue);
+        }
+    }
+
+    /**
+     * 회원 탈퇴 시 인증 레코드 정리
+     */
+    public void clearMember(Long memberId) {
+        for (String fullDomain : acmeChallengeService.getFullDomainsByMemberId(memberId)) {
+            try {
+                this.push(fullDomain, List.of());
+            } catch (Exception e) {
+                log.warn("ACME 인증 레코드 삭제 실패: {} - {}", fullDomain, e.getMessage());
+            }
+        }
+        acmeChallengeService.deleteByMemberId(memberId);
+    }
+
+    /**
+     * 만료된 인증 값 정리 - 남은 값으로 다시 반영한 뒤 DB 에서 삭제
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void collectExpired() {
+        String gcLockValue;
+        try {
+            gcLockValue = lockService.lock(GC_LOCK_KEY, Duration.ofMinutes(5));
+        } catch (ConcurrencyFailureException e) {   // 다른 VM에서 처리중
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            for (String fullDomain : acmeChallengeService.getExpiredFullDomains(now)) {
+                String lockKey = LOCK_KEY_PREFIX + fullDomain;
+                String lockValue;
+                try {
+                    lockValue = lockService.lock(lockKey);
+                } catch (ConcurrencyFailureException e) {
+                    continue;   // 사용자 요청 처리중 - 다음 회차에 정리
+                }
+
+                try {
+                    this.push(fullDomain, acmeChallengeService.getLiveValues(fullDomain));
+                    acmeChallengeService.deleteExpired(fullDomain, now);
+                } catch (Exception e) {
+                    log.warn("만료 ACME 인증 값 정리 실패: {} - {}", fullDomain, e.getMessage());
+                } finally {
+                    lockService.unlock(lockKey, lockValue);
+                }
+            }
+        } finally {
+            lockService.unlock(GC_LOCK_KEY, gcLockValue);
+        }
+    }
+
+    // 남은 값이 없으면 rrset 삭제, 있으면 짧은 TTL 로 교체 - 실패 시 즉시 재시도
+    private void push(String fullDomain, List<String> values) {
+        String zone = pdnsService.splitZoneAndSubDomain(fullDomain)[1];
+
+        PDNSDto.Rrset.RrsetBuilder builder = PDNSDto.Rrset.builder()
+                .name(challengeName(fullDomain) + ".")
+                .type("TXT")
+                .ttl(CHALLENGE_TTL);
+
+        if (values.isEmpty()) {
+            builder = builder.changeType(Action.DELETE.name());
+        } else {
+            builder = builder
+                    .changeType(Action.REPLACE.name())
+                    .records(values.stream()
+                            .map(v -> PDNSDto.Record.builder().content("\"" + v + "\"").build())
+                            .toList());
+        }
+        PDNSDto.Rrset rrset = builder.build();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                pdnsService.applyRrsets(zone, List.of(rrset));
+                return;
+            } catch (Exception e) {
+                if (attempt >= PUSH_ATTEMPTS) {
+                    throw e;
+                }
+                sleep(RETRY_BASE_MILLIS * attempt);
+            }
+        }
+    }
+
+    private boolean waitUntilVisible(String fullDomain, String value) {
+        String zone = pdnsService.splitZoneAndSubDomain(fullDomain)[1];
+        String quoted = "\"" + value + "\"";
+
+        for (int check = 0; check < VISIBILITY_CHECKS; check++) {
+            try {
+                boolean visible = pdnsService.getServedRrset(zone, challengeName(fullDomain), "TXT")
+                        .map(rrset -> rrset.records() != null && rrset.records().stream()
+                                .anyMatch(r -> !r.disabled() && quoted.equals(r.content())))
+                        .orElse(false);
+                if (visible) {
+                    return true;
+                }
+            } catch (Exception e) {
+                log.debug("ACME 인증 값 반영 확인 실패: {} - {}", fullDomain, e.getMessage());
+            }
+            sleep(RETRY_BASE_MILLIS);
+        }
+        return false;
+    }
+
+    private String lockWithWait(String lockKey) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return lockService.lock(lockKey);
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= LOCK_WAIT_ATTEMPTS) {
+                    throw e;
+                }
+                sleep(LOCK_WAIT_MILLIS);
+            }
+        }
+    }
+
+    private static String challengeName(String fullDomain) {
+        return CHALLENGE_LABEL + "." + fullDomain;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
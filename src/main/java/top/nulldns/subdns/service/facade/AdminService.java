@@ -3,18 +3,32 @@ package top.nulldns.subdns.service.facade;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import top.nulldns.subdns.config.finalconfig.BlocklistKind;
+import top.nulldns.subdns.config.finalconfig.Status;
 import top.nulldns.subdns.dao.HaveSubDomain;
 import top.nulldns.subdns.dao.Member;
 import top.nulldns.subdns.service.domain.HaveSubDomainService;
 import top.nulldns.subdns.service.domain.MemberService;
+import top.nulldns.subdns.service.infra.LockService;
+import top.nulldns.subdns.service.infra.PhaseObservationService;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import top.nulldns.subdns.dto.AdminDomainDto;
 import top.nulldns.subdns.dto.AdminMemberDto;
+import top.nulldns.subdns.dto.BlockedWordDto;
+import top.nulldns.subdns.dto.PDNSDto;
+import top.nulldns.subdns.dto.PendingBacklogDto;
+import top.nulldns.subdns.dto.PendingDrainProgressDto;
+import top.nulldns.subdns.dto.ReconcileReportDto;
+import top.nulldns.subdns.dto.SubDomainDto;
 
 @Service
 @RequiredArgsConstructor
@@ -23,8 +37,19 @@ public class AdminService {
     private final HaveSubDomainService haveSubDomainService;
     private final MemberService memberService;
     private final PDNSService pdnsService;
+    private final ExpiryCleanupService expiryCleanupService;
+    private final ReconcileService reconcileService;
+    private final BlocklistService blocklistService;
+    private final PhaseObservationService phaseObservationService;
+    private final PendingBacklogService pendingBacklogService;
+    private final LockService lockService;
     private final top.nulldns.subdns.repository.HaveSubDomainRepository haveSubDomainRepository;
 
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+    private static final String RECONCILE_LOCK_KEY = "admin:reconcile";
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofHours(1);
+
     // --- 통계 ---
     public Map<String, Object> getStatistics() {
         Map<String, Object> stats = new HashMap<>();
@@ -39,6 +64,9 @@ public class AdminService {
             recordTypeCounts.put((String) row[0], (Long) row[1]);
         }
         stats.put("recordTypeStats", recordTypeCounts);
+        stats.put("expiryCleanup", expiryCleanupService.getProgress());
+        stats.put("blocklist", blocklistService.getStatus());
+        stats.put("phases", phaseObservationService.getSummary());    // 단계별 최근 소요 시간 (ms)
         
         return stats;
     }
@@ -68,6 +96,10 @@ public class AdminService {
         memberService.setBanned(memberId, banned);
     }
 
+    public int setMembersBanned(List<Long> memberIds, boolean banned) {
+        return memberService.setBanned(memberIds, banned);
+    }
+
     public void updateMemberMaxRecords(Long memberId, int maxRecords) {
         memberService.updateMaxRecords(memberId, maxRecords);
     }
@@ -110,20 +142,12 @@ public class AdminService {
                 .toList();
     }
 
-    @Transactional
     public void updateExpiryDate(Long domainId, java.time.LocalDate newExpiryDate) {
-        HaveSubDomain domain = haveSubDomainRepository.findById(domainId)
-                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 도메인입니다."));
-        
-        haveSubDomainRepository.save(HaveSubDomain.builder()
-                .id(domain.getId())
-                .member(domain.getMember())
-                .fullDomain(domain.getFullDomain())
-                .recordType(domain.getRecordType())
-                .content(domain.getContent())
-                .expiryDate(newExpiryDate)
-                .domainStatus(domain.getDomainStatus())
-                .build());
+        haveSubDomainService.updateExpiryDate(domainId, newExpiryDate);
+    }
+
+    public int extendZoneExpiryDate(String zone, java.time.LocalDate newExpiryDate) {
+        return haveSubDomainService.extendExpiryDateByZone(zone, newExpiryDate);
     }
 
     @Transactional(readOnly = true)
@@ -154,6 +178,11 @@ public class AdminService {
         haveSubDomainService.transferOwnership(fullDomain, newOwner);
     }
 
+    public int transferAllDomainOwnership(Long fromMemberId, Long newMemberId) {
+        Member newOwner = memberService.getMemberById(newMemberId);
+        return haveSubDomainService.transferAllOwnership(fromMemberId, newOwner);
+    }
+
     public void deleteDomainForce(String fullDomain) {
         List<HaveSubDomain> subDomains = haveSubDomainService.getSubDomainDTOs(fullDomain).stream()
                 .map(dto -> haveSubDomainService.getHaveSubDomainByDetailInfo(null, fullDomain, dto.type())) // member 무시하고 찾기 위해 repository 수정 필요할 수도 있음
@@ -184,4 +213,108 @@ public class AdminService {
     public Set<top.nulldns.subdns.dto.PDNSDto.ZoneName> getZones() {
         return pdnsService.getCachedZoneNames();
     }
+
+    /**
+     * DB - PDNS 정합성 검사 (동시에 한 번만 실행 가능)
+     * @param zone          검사할 존 (null 이면 전체 존)
+     * @param dryRun        true 면 차이만 보고
+     * @param deleteOrphans PDNS 에만 있는 레코드 삭제 여부
+     */
+    public ReconcileReportDto reconcile(String zone, boolean dryRun, boolean deleteOrphans) {
+        List<String> zones;
+        if (zone == null || zone.isBlank()) {
+            zones = pdnsService.getCachedZoneNames().stream().map(PDNSDto.ZoneName::getName).toList();
+        } else if (hasZone(zone)) {
+            zones = List.of(zone);
+        } else {
+            throw new NoSuchElementException("존재하지 않는 존입니다.");
+        }
+
+        String lockValue = lockService.lock(RECONCILE_LOCK_KEY, RECONCILE_LOCK_TTL);
+        try {
+            return reconcileService.reconcile(zones, dryRun, deleteOrphans);
+        } finally {
+            lockService.unlock(RECONCILE_LOCK_KEY, lockValue);
+        }
+    }
+
+    // --- 금지어 관리 ---
+    public List<BlockedWordDto> getBlocklist() {
+        return blocklistService.getAll();
+    }
+
+    public BlockedWordDto addBlockedWord(BlocklistKind kind, String word) {
+        return blocklistService.add(kind, word);
+    }
+
+    public void removeBlockedWord(Long id) {
+        blocklistService.remove(id);
+    }
+
+    // --- PENDING 적체 ---
+    public PendingBacklogDto getPendingBacklog() {
+        return pendingBacklogService.getBacklog();
+    }
+
+    public PendingDrainProgressDto drainPending(Status status) {
+        return pendingBacklogService.startDrain(status);
+    }
+
+    public PendingDrainProgressDto getPendingDrainProgress() {
+        return pendingBacklogService.getDrainProgress();
+    }
+
+    public ReconcileReportDto getLastReconcileReport() {
+        return reconcileService.getLastReport();
+    }
+
+    public boolean hasZone(String zone) {
+        return pdnsService.getCachedZoneNames().contains(PDNSDto.ZoneName.builder().name(zone).build());
+    }
+
+    /**
+     * 존 레코드를 BIND 존 파일 형식(RFC 1035)으로 출력
+     * DB 에서 스트리밍으로 읽어 바로 쓰므로 레코드 수와 관계없이 메모리 사용량 일정
+     * @param zone          nulldns.top, example.com 등
+     * @param outputStream  응답 스트림 (닫지 않음)
+     * @param gzip          gzip 압축 여부
+     */
+    public void exportZone(String zone, OutputStream outputStream, boolean gzip) throws IOException {
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(outputStream, EXPORT_BUFFER_SIZE, true) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzip ? gzipStream : outputStream, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+
+        writer.write("; " + zone + " exported at " + java.time.LocalDateTime.now() + "\n");
+        writer.write("$ORIGIN " + zone + ".\n");
+        writer.write("$TTL " + PDNSDto.DEFAULT_TTL + "\n");
+
+        int[] written = {0};
+        try {
+            haveSubDomainService.forEachRecordInZone(zone, record -> {
+                try {
+                    writer.write(toZoneFileLine(zone, record));
+                    if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+        log.info("존 내보내기 완료: {} ({}개 레코드)", zone, written[0]);
+    }
+
+    private String toZoneFileLine(String zone, SubDomainDto record) {
+        String fullDomain = record.fullDomain();
+        String name = fullDomain.equals(zone) ? "@" : fullDomain.substring(0, fullDomain.length() - zone.length() - 1);
+
+        return name + "\t" + PDNSDto.DEFAULT_TTL + "\tIN\t" + record.type() + "\t" + record.content() + "\n";
+    }
 }
@@ -3,17 +3,25 @@ package top.nulldns.subdns.service.facade;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import top.nulldns.subdns.dao.Member;
+import top.nulldns.subdns.service.domain.AccessTokenService;
 import top.nulldns.subdns.service.domain.MemberService;
+import top.nulldns.subdns.service.domain.UpdateTokenService;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
     private final PDNSService pdnsService;
+    private final AcmeService acmeService;
     private final MemberService memberService;
+    private final AccessTokenService accessTokenService;
+    private final UpdateTokenService updateTokenService;
 
     public void deleteUserAndData(Long memberId) {
         Member member = memberService.getMemberById(memberId);
         memberService.deletePending(member);
+        accessTokenService.revokeAll(memberId);
+        updateTokenService.revokeAll(memberId);
+        acmeService.clearMember(memberId);
         pdnsService.deleteSubRecordsByMemberId(memberId);
         memberService.delete(member);
     }
@@ -0,0 +1,131 @@
+package top.nulldns.subdns.service.facade;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import top.nulldns.subdns.config.finalconfig.BlocklistKind;
+import top.nulldns.subdns.dto.BlockedWordDto;
+import top.nulldns.subdns.service.domain.BlockedWordService;
+import top.nulldns.subdns.util.BlocklistMatcher;
+import top.nulldns.subdns.util.PDNSRecordValidator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DB 금지어를 검사기로 컴파일해 PDNSRecordValidator 에 적용
+ * 변경 시 Redis pub/sub 로 모든 노드에 재적용 요청 (메시지 유실 대비 5분마다 다시 읽음)
+ * 컴파일은 요청 스레드 밖에서 하고 교체는 참조 1개 변경이라 검증 요청이 멈추지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BlocklistService {
+    public static final String CHANNEL = "blocklist-reload";
+
+    private final BlockedWordService blockedWordService;
+    private final StringRedisTemplate redisTemplate;
+
+    // 재적용끼리만 직렬화 (늦게 읽은 목록이 먼저 읽은 목록에 덮이지 않도록)
+    // DB 조회를 감싸므로 synchronized 대신 ReentrantLock - 가상 스레드가 캐리어 스레드에 고정되지 않음
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile int loadedWords = -1;
+    private volatile LocalDateTime loadedAt;
+
+    @PostConstruct
+    private void init() {
+        try {
+            boolean seeded = blockedWordService.seedIfEmpty(Map.of(
+                    BlocklistKind.EXACT, PDNSRecordValidator.DEFAULT_EXACT_BLOCK_WORDS,
+                    BlocklistKind.CONTAINS, PDNSRecordValidator.DEFAULT_CONTAINS_BLOCK_WORDS,
+                    BlocklistKind.CNAME_TARGET, PDNSRecordValidator.DEFAULT_BLOCKED_CNAME_TARGETS
+            ));
+            if (seeded) {
+                log.info("기본 금지어 등록 완료");
+            }
+            reload();
+        } catch (Exception e) {
+            log.error("금지어 초기화 실패 - 기본 금지어로 검증", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 300_000, initialDelay = 300_000)
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("정기 금지어 갱신 중 에러 발생", e);
+        }
+    }
+
+    /**
+     * DB 에서 다시 읽어 검사기 교체
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            List<BlockedWordDto> words = blockedWordService.getAll();
+
+            Map<BlocklistKind, List<String>> byKind = new HashMap<>();
+            for (BlocklistKind kind : BlocklistKind.values()) {
+                byKind.put(kind, new ArrayList<>());
+            }
+            for (BlockedWordDto word : words) {
+                byKind.get(word.kind()).add(word.word());
+            }
+
+            PDNSRecordValidator.applyBlocklist(BlocklistMatcher.compile(
+                    byKind.get(BlocklistKind.EXACT),
+                    byKind.get(BlocklistKind.CONTAINS),
+                    byKind.get(BlocklistKind.CNAME_TARGET)
+            ));
+
+            if (words.size() != loadedWords) {
+                log.info("금지어 적용: {}개", words.size());
+            }
+            loadedWords = words.size();
+            loadedAt = LocalDateTime.now();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    public List<BlockedWordDto> getAll() {
+        return blockedWordService.getAll();
+    }
+
+    public BlockedWordDto add(BlocklistKind kind, String word) {
+        BlockedWordDto added = blockedWordService.add(kind, word);
+        reloadAndBroadcast();
+        return added;
+    }
+
+    public void remove(Long id) {
+        blockedWordService.remove(id);
+        reloadAndBroadcast();
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("words", loadedWords);
+        status.put("loadedAt", loadedAt);
+        return status;
+    }
+
+    // 현재 노드는 바로 적용, 다른 노드는 메시지를 받아 적용
+    private void reloadAndBroadcast() {
+        reload();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, "reload");
+        } catch (Exception e) {
+            log.warn("금지어 갱신 알림 실패 - 다른 노드는 정기 갱신 때 반영됨: {}", e.getMessage());
+        }
+    }
+}
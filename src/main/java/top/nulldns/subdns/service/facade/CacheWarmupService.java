@@ -0,0 +1,119 @@
+package top.nulldns.subdns.service.facade;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import top.nulldns.subdns.service.domain.CheckAdminService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 시작 시 캐시(존 목록, 관리자 목록)를 백그라운드에서 동시에 채움
+ * 성공할 때까지 지수 백오프로 재시도하고, 모두 채워지기 전까지 readiness 를 OUT_OF_SERVICE 로 둠
+ * 존 목록은 스냅샷이 있으면 바로 준비 완료로 보고 PDNS 조회는 뒤에서 계속 시도함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheWarmupService implements HealthIndicator {
+    private final PDNSService pdnsService;
+    private final CheckAdminService checkAdminService;
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+    private List<Warmup> warmups;
+    private volatile boolean stopped;
+
+    @PostConstruct
+    private void init() {
+        warmups = List.of(
+                new Warmup("zones", pdnsService::refreshZoneNames, pdnsService::isZoneNamesLoaded),
+                new Warmup("admins", checkAdminService::refresh, checkAdminService::isLoaded)
+        );
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        for (Warmup warmup : warmups) {
+            warmup.thread = Thread.ofVirtual().name("cache-warmup-" + warmup.name).start(warmup::run);
+        }
+    }
+
+    @PreDestroy
+    private void stop() {
+        stopped = true;
+        for (Warmup warmup : warmups) {
+            if (warmup.thread != null) {
+                warmup.thread.interrupt();
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return warmups.stream().allMatch(warmup -> warmup.ready.getAsBoolean());
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (Warmup warmup : warmups) {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("ready", warmup.ready.getAsBoolean());
+            detail.put("attempts", warmup.attempts);
+            detail.put("loadedAt", warmup.loadedAt);
+            details.put(warmup.name, detail);
+        }
+
+        return (isReady() ? Health.up() : Health.outOfService()).withDetails(details).build();
+    }
+
+    private class Warmup {
+        private final String name;
+        private final BooleanSupplier loader;   // 원본에서 읽어 캐시 교체 (성공 여부)
+        private final BooleanSupplier ready;    // 요청을 받아도 될 만큼 채워졌는지
+        private volatile int attempts;
+        private volatile LocalDateTime loadedAt;
+        private Thread thread;
+
+        private Warmup(String name, BooleanSupplier loader, BooleanSupplier ready) {
+            this.name = name;
+            this.loader = loader;
+            this.ready = ready;
+        }
+
+        private void run() {
+            long backoffMillis = INITIAL_BACKOFF.toMillis();
+            while (!stopped) {
+                attempts++;
+                if (loader.getAsBoolean()) {
+                    loadedAt = LocalDateTime.now();
+                    log.info("{} 캐시 준비 완료 ({}회 시도)", name, attempts);
+                    return;
+                }
+
+                // 여러 노드가 동시에 재시작해도 같은 순간에 몰리지 않도록 +-20% 흔들기
+                long sleepMillis = backoffMillis + ThreadLocalRandom.current().nextLong(-backoffMillis / 5, backoffMillis / 5 + 1);
+                log.warn("{} 캐시 채우기 실패 ({}회) - {}ms 후 재시도", name, attempts, sleepMillis);
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF.toMillis());
+            }
+        }
+    }
+}
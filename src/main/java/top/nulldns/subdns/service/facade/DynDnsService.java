@@ -0,0 +1,250 @@
+package top.nulldns.subdns.service.facade;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import top.nulldns.subdns.config.finalconfig.Status;
+import top.nulldns.subdns.dao.HaveSubDomain;
+import top.nulldns.subdns.dao.Member;
+import top.nulldns.subdns.dto.RecordEventDto;
+import top.nulldns.subdns.dto.RecordStateDto;
+import top.nulldns.subdns.dto.UpdateTokenOwnerDto;
+import top.nulldns.subdns.service.domain.HaveSubDomainService;
+import top.nulldns.subdns.service.domain.MemberService;
+import top.nulldns.subdns.service.domain.UpdateTokenService;
+import top.nulldns.subdns.service.infra.RecordEventPublisher;
+import top.nulldns.subdns.util.PDNSRecordValidator;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * dyndns2 호환 IP 갱신
+ * 토큰 조회, 변경 없음 판단은 로컬 캐시로 처리하고
+ * 실제 변경은 DB 에 UPDATE_PENDING 으로 기록한 뒤 모아서 PDNS 에 한 번에 반영함
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DynDnsService {
+    private final UpdateTokenService updateTokenService;
+    private final HaveSubDomainService haveSubDomainService;
+    private final MemberService memberService;
+    private final PDNSService pdnsService;
+    private final RecordEventPublisher recordEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_CAS_ATTEMPTS = 3;
+    private static final int MAX_RECORDS_PER_FLUSH = 500;
+    private static final long CONTENT_CACHE_TTL_MILLIS = 5 * 60 * 1000L;   // 레코드 이벤트를 놓쳤을 때 다른 경로에서 바꾼 값이 반영되기까지 최대 지연
+    private static final int MAX_CACHE_SIZE = 100_000;
+
+    // "fullDomain/type" -> 마지막으로 확인한 content
+    private final Map<String, CachedContent> contentCache = new ConcurrentHashMap<>();
+    // id -> PDNS 반영 대기중인 변경 (같은 레코드는 하나로 합쳐짐)
+    private final Map<Long, PendingPush> pendingPushes = new ConcurrentHashMap<>();
+
+    /**
+     * 도메인의 갱신 토큰 발급 (기존 토큰 폐기)
+     */
+    public String issueToken(Long memberId, String subDomain, String zone) {
+        Member member = memberService.getMemberById(memberId);
+        String fullDomain = subDomain.toLowerCase().trim() + "." + zone.toLowerCase().trim();
+
+        if (!haveSubDomainService.isOwnerOfDomain(member, fullDomain)) {
+            throw new NoSuchElementException("보유 도메인이 아님");
+        }
+        return updateTokenService.issue(member, fullDomain);
+    }
+
+    public void revokeToken(Long memberId, String subDomain, String zone) {
+        Member member = memberService.getMemberById(memberId);
+        String fullDomain = subDomain.toLowerCase().trim() + "." + zone.toLowerCase().trim();
+
+        if (!haveSubDomainService.isOwnerOfDomain(member, fullDomain)) {
+            throw new NoSuchElementException("보유 도메인이 아님");
+        }
+        updateTokenService.revoke(fullDomain);
+    }
+
+    /**
+     * IP 갱신
+     * @param token     갱신 토큰
+     * @param hostname  갱신할 도메인 (없으면 토큰의 도메인)
+     * @param ip        새 IP (IPv4 -> A, IPv6 -> AAAA)
+     * @return String   dyndns2 응답 (good, nochg, badauth, nohost, numhost, abuse, dnserr, 911)
+     */
+    public String update(String token, String hostname, String ip) {
+        Optional<UpdateTokenOwnerDto> resolved = updateTokenService.resolve(token);
+        if (resolved.isEmpty()) {
+            return "badauth";
+        }
+
+        UpdateTokenOwnerDto owner = resolved.get();
+        if (owner.banned()) {
+            return "abuse";
+        }
+
+        String fullDomain = owner.fullDomain();
+        if (hostname != null && !hostname.isBlank()) {
+            if (hostname.contains(",")) {
+                return "numhost";   // 토큰은 도메인 하나에만 유효
+            }
+            String normalized = hostname.toLowerCase().trim();
+            if (normalized.endsWith(".")) {
+                normalized = normalized.substring(0, normalized.length() - 1);
+            }
+            if (!normalized.equals(fullDomain)) {
+                return "nohost";
+            }
+        }
+
+        String type;
+        if (ip != null && PDNSRecordValidator.isIPv4(ip)) {
+            type = "A";
+        } else if (ip != null && PDNSRecordValidator.isIPv6(ip)) {
+            type = "AAAA";
+        } else {
+            return "dnserr";
+        }
+
+        // 대부분의 요청 - DB, PDNS 모두 생략
+        String cacheKey = fullDomain + "/" + type;
+        CachedContent cached = contentCache.get(cacheKey);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis() && cached.content().equals(ip)) {
+            return "nochg " + ip;
+        }
+
+        for (int attempt = 0; attempt < MAX_CAS_ATTEMPTS; attempt++) {
+            Optional<RecordStateDto> found = haveSubDomainService.getRecordState(owner.memberId(), fullDomain, type);
+
+            // 해당 타입 레코드가 없음 -> 신규 생성은 기존 검증 경로로 처리 (드문 경우)
+            if (found.isEmpty()) {
+                return this.createRecord(owner, fullDomain, type, ip, cacheKey);
+            }
+
+            RecordStateDto state = found.get();
+            if (state.domainStatus() == Status.DELETE_PENDING) {
+                return "nohost";
+            }
+            if (ip.equals(state.content())) {
+                cacheContent(cacheKey, ip);
+                return "nochg " + ip;
+            }
+            if (state.domainStatus() != Status.ACTIVE) {
+                return "911";   // 이전 변경이 아직 반영 대기중 - 클라이언트가 잠시 후 재시도
+            }
+
+            if (haveSubDomainService.compareAndSetContent(state, ip)) {
+                pendingPushes.put(state.id(), new PendingPush(state.id(), owner.memberId(), fullDomain, type, ip, state.version() + 1));
+                cacheContent(cacheKey, ip);
+                return "good " + ip;
+            }
+        }
+
+        return "911";
+    }
+
+    /**
+     * 모인 변경을 PDNS 에 한 번에 반영 (존 단위 PATCH)
+     * 실패한 행은 UPDATE_PENDING 으로 남아 스케줄러가 다시 처리함
+     */
+    @Scheduled(fixedDelay = 2_000)
+    public void flush() {
+        if (pendingPushes.isEmpty()) {
+            return;
+        }
+
+        List<PendingPush> drained = new ArrayList<>();
+        for (Long id : pendingPushes.keySet()) {
+            PendingPush push = pendingPushes.remove(id);
+            if (push != null) {
+                drained.add(push);
+            }
+            if (drained.size() >= MAX_RECORDS_PER_FLUSH) {
+                break;
+            }
+        }
+
+        List<HaveSubDomain> targets = new ArrayList<>();
+        Map<Long, PendingPush> pushById = new HashMap<>();
+        for (PendingPush push : drained) {
+            targets.add(
+                    HaveSubDomain.builder()
+                            .id(push.id())
+                            .fullDomain(push.fullDomain())
+                            .recordType(push.type())
+                            .content(push.content())
+                            .version(push.version())
+                            .build()
+            );
+            pushById.put(push.id(), push);
+        }
+
+        // 도메인 락 안에서 버전 확인 후 반영 - 그 사이 다른 경로에서 수정(삭제)됐다면 건너뛰고 스케줄러가 DB 최신 값으로 처리
+        List<HaveSubDomain> activated = pdnsService.pushWrittenRecords(targets);
+        List<RecordEventDto> events = new ArrayList<>();
+        for (HaveSubDomain haveSubDomain : activated) {
+            PendingPush push = pushById.get(haveSubDomain.getId());
+            events.add(new RecordEventDto(push.memberId(), push.fullDomain(), push.type(), RecordEventDto.ACTIVE, System.currentTimeMillis()));
+        }
+        recordEventPublisher.publish(events);
+
+        log.debug("DDNS 변경 {}개 중 {}개 PDNS 반영", drained.size(), activated.size());
+    }
+
+    private String createRecord(UpdateTokenOwnerDto owner, String fullDomain, String type, String ip, String cacheKey) {
+        // 도메인이 삭제(만료)된 뒤 남은 토큰으로 다시 등록되는 것 방지
+        Member member = memberService.getMemberById(owner.memberId());
+        if (!haveSubDomainService.isOwnerOfDomain(member, fullDomain)) {
+            return "nohost";
+        }
+
+        String[] splitDomain = pdnsService.splitZoneAndSubDomain(fullDomain);
+        try {
+            pdnsService.addRecord(splitDomain[0], splitDomain[1], type, ip, owner.memberId());
+        } catch (Exception e) {
+            log.debug("DDNS 레코드 생성 실패: {} {} - {}", fullDomain, type, e.getMessage());
+            return "dnserr";
+        }
+        cacheContent(cacheKey, ip);
+        return "good " + ip;
+    }
+
+    /**
+     * 레코드 이벤트 수신 (Redis, 모든 노드) - 웹/API 등 다른 경로에서 바뀐 레코드의 캐시 제거
+     * 이벤트를 놓치면 캐시 만료(CONTENT_CACHE_TTL_MILLIS)까지 이전 값 기준으로 판단함
+     */
+    public void evictCachedContent(byte[] message) {
+        if (contentCache.isEmpty()) {
+            return;
+        }
+
+        List<RecordEventDto> events;
+        try {
+            events = objectMapper.readValue(message, new TypeReference<List<RecordEventDto>>() {});
+        } catch (IOException e) {
+            log.warn("레코드 이벤트 파싱 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (RecordEventDto event : events) {
+            contentCache.remove(event.fullDomain() + "/" + event.recordType());
+        }
+    }
+
+    private void cacheContent(String cacheKey, String content) {
+        if (contentCache.size() >= MAX_CACHE_SIZE) {
+            contentCache.clear();
+        }
+        contentCache.put(cacheKey, new CachedContent(content, System.currentTimeMillis() + CONTENT_CACHE_TTL_MILLIS));
+    }
+
+    private record CachedContent(String content, long expiresAt) { }
+
+    private record PendingPush(Long id, Long memberId, String fullDomain, String type, String content, long version) { }
+}
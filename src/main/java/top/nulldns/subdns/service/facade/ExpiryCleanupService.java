@@ -0,0 +1,86 @@
+package top.nulldns.subdns.service.facade;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import top.nulldns.subdns.common.jfr.SchedulerBatchEvent;
+import top.nulldns.subdns.dao.HaveSubDomain;
+import top.nulldns.subdns.dto.ExpiryCleanupProgressDto;
+import top.nulldns.subdns.dto.RecordEventDto;
+import top.nulldns.subdns.service.domain.HaveSubDomainService;
+import top.nulldns.subdns.service.infra.RecordEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료 서브도메인 삭제 파이프라인
+ * keyset 스캔 -> DELETE_PENDING 일괄 UPDATE -> 존 단위 PDNS 반영 -> 성공분 일괄 DELETE
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExpiryCleanupService {
+    private final HaveSubDomainService haveSubDomainService;
+    private final PDNSService pdnsService;
+    private final RecordEventPublisher recordEventPublisher;
+
+    private static final int BATCH_SIZE = 500;
+
+    @Getter
+    private volatile ExpiryCleanupProgressDto progress = ExpiryCleanupProgressDto.notStarted();
+
+    /**
+     * 기준 날짜 이전에 만료된 서브도메인 삭제
+     * PDNS 반영에 실패한 행은 DELETE_PENDING 으로 남고 다음 실행에서 다시 처리됨
+     * @param date 기준 날짜
+     * @return ExpiryCleanupProgressDto 최종 진행 상황
+     */
+    public ExpiryCleanupProgressDto run(LocalDate date) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long lastId = 0, scanned = 0, deleted = 0, failed = 0;
+        int batches = 0;
+
+        progress = new ExpiryCleanupProgressDto(true, startedAt, null, lastId, batches, scanned, deleted, failed);
+
+        while (true) {
+            List<HaveSubDomain> expiredDomains = haveSubDomainService.getExpiredSubDomains(date, lastId, BATCH_SIZE);
+            if (expiredDomains.isEmpty()) {
+                break;
+            }
+
+            SchedulerBatchEvent event = new SchedulerBatchEvent();
+            event.begin();
+
+            lastId = expiredDomains.getLast().getId();
+            List<Long> ids = expiredDomains.stream().map(HaveSubDomain::getId).toList();
+
+            haveSubDomainService.setDeletePendingByIds(ids);
+            List<HaveSubDomain> deleteSuccess = pdnsService.deleteSubRecordsInPDNS(expiredDomains);
+            haveSubDomainService.deleteSubDomainsByIds(deleteSuccess.stream().map(HaveSubDomain::getId).toList());
+            recordEventPublisher.publish(deleteSuccess, RecordEventDto.DELETED);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.status = "EXPIRED";
+                event.size = expiredDomains.size();
+                event.locked = expiredDomains.size();
+                event.successes = deleteSuccess.size();
+                event.commit();
+            }
+
+            batches++;
+            scanned += expiredDomains.size();
+            deleted += deleteSuccess.size();
+            failed += expiredDomains.size() - deleteSuccess.size();
+
+            progress = new ExpiryCleanupProgressDto(true, startedAt, null, lastId, batches, scanned, deleted, failed);
+            log.info("만료 도메인 삭제 진행중: 배치 {}회, 조회 {}개, 삭제 {}개, 실패 {}개 (lastId={})", batches, scanned, deleted, failed, lastId);
+        }
+
+        progress = new ExpiryCleanupProgressDto(false, startedAt, LocalDateTime.now(), lastId, batches, scanned, deleted, failed);
+        return progress;
+    }
+}
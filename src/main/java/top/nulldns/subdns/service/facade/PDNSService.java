@@ -1,5 +1,11 @@
 package top.nulldns.subdns.service.facade;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -7,26 +13,48 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+import top.nulldns.subdns.common.jfr.CacheRefreshEvent;
+import top.nulldns.subdns.common.jfr.PdnsRequestEvent;
+import top.nulldns.subdns.common.jfr.SchedulerBatchEvent;
 import top.nulldns.subdns.config.PdnsProperties;
 import top.nulldns.subdns.config.finalconfig.Action;
 import top.nulldns.subdns.config.finalconfig.Status;
 import top.nulldns.subdns.dto.PDNSDto;
 import top.nulldns.subdns.dao.HaveSubDomain;
 import top.nulldns.subdns.dao.Member;
+import top.nulldns.subdns.dto.RecordEventDto;
+import top.nulldns.subdns.dto.RecordStateDto;
 import top.nulldns.subdns.dto.SubDomainDto;
 import top.nulldns.subdns.service.domain.CheckAdminService;
 import top.nulldns.subdns.service.domain.HaveSubDomainService;
 import top.nulldns.subdns.service.domain.MemberService;
 import top.nulldns.subdns.service.infra.LockService;
+import top.nulldns.subdns.service.infra.PhaseObservationService;
+import top.nulldns.subdns.service.infra.RecordEventPublisher;
 import top.nulldns.subdns.util.PDNSRecordValidator;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -39,15 +67,30 @@ public class PDNSService {
     private final CheckAdminService checkAdminService;
     private final LockService lockService;
     private final PdnsProperties pdnsProperties;
+    private final ObjectMapper objectMapper;
+    private final RecordEventPublisher recordEventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final PhaseObservationService phaseObservationService;
 
     private static final String LOCK_KEY_PREFIX = "pdns:";
+    private static final String ADD_RECORD_OPERATION = "add-record";
+    private static final String MODIFY_PENDING_OPERATION = "modify-pending";
+    private static final int MAX_CAS_ATTEMPTS = 3;
+    private static final int MAX_BULK_RECORDS = 500;
+    private static final int MAX_RRSETS_PER_PATCH = 500;
+    private static final int MAX_ZONE_TAGS = 50;     // 메트릭 zone 태그 종류 제한 (초과분은 other)
+
+    private final Set<String> taggedZones = ConcurrentHashMap.newKeySet();
 
     private RestClient restClient;
     @Getter
-    private Set<PDNSDto.ZoneName> cachedZoneNames = Set.of();
+    private volatile Set<PDNSDto.ZoneName> cachedZoneNames = Set.of();
+    @Getter
+    private volatile boolean zoneNamesLoaded;   // 스냅샷 또는 PDNS 에서 한 번이라도 채워졌는지
 
     /**
      * 초기화 메서드
+     * PDNS 조회는 시작을 막지 않도록 CacheWarmupService 가 백그라운드에서 함 (그 전까지는 스냅샷 사용)
      */
     @PostConstruct
     private void init() {
@@ -56,13 +99,7 @@ public class PDNSService {
                 .defaultHeader("X-API-Key", pdnsProperties.getApiKey())
                 .build();
 
-        try {
-            this.cachedZoneNames = this.getZoneNamesSet();
-        } catch (Exception e) {
-            log.error("초기 Zone Name 목록 갱신 중 에러 발생", e);
-            this.cachedZoneNames = new HashSet<>();
-            cachedZoneNames.add(PDNSDto.ZoneName.builder().name("nulldns.top").build());
-        }
+        this.loadZoneSnapshot();
     }
 
     /**
@@ -70,13 +107,83 @@ public class PDNSService {
      */
     @Scheduled(cron = "0 0 0 * * ?")
     private void scheduledRefresh() {
+        if (!this.refreshZoneNames()) {
+            log.error("정기 Zone Name 목록 갱신 실패");
+        }
+    }
+
+    /**
+     * PDNS 에서 Zone Name 목록을 다시 읽어 캐시 교체 + 스냅샷 저장
+     * @return boolean 성공 여부 (실패 시 기존 캐시 유지)
+     */
+    public boolean refreshZoneNames() {
+        Set<PDNSDto.ZoneName> zones;
+        try {
+            zones = this.getZoneNamesSet();
+        } catch (Exception e) {
+            log.warn("Zone Name 목록 갱신 중 에러 발생: {}", e.getMessage());
+            return false;
+        }
+
+        this.cachedZoneNames = zones;
+        this.zoneNamesLoaded = true;
+        this.saveZoneSnapshot(zones);
+        return true;
+    }
+
+    // 마지막으로 성공한 Zone Name 목록 - 재시작 직후 PDNS 응답 전에도 바로 사용
+    public record ZoneSnapshot(long savedAt, List<String> zones) {
+    }
+
+    private void loadZoneSnapshot() {
+        Path path = this.zoneSnapshotPath();
+        if (path == null || !Files.isRegularFile(path)) {
+            return;
+        }
+
+        try {
+            ZoneSnapshot snapshot = objectMapper.readValue(path.toFile(), ZoneSnapshot.class);
+            if (snapshot.zones() == null || snapshot.zones().isEmpty()) {
+                return;
+            }
+
+            Set<PDNSDto.ZoneName> zones = new HashSet<>();
+            for (String zone : snapshot.zones()) {
+                zones.add(PDNSDto.ZoneName.builder().name(zone).build());
+            }
+            this.cachedZoneNames = zones;
+            this.zoneNamesLoaded = true;
+            log.info("Zone Name 스냅샷 사용: {}개 ({} 저장)", zones.size(), Instant.ofEpochMilli(snapshot.savedAt()));
+        } catch (Exception e) {
+            log.warn("Zone Name 스냅샷 읽기 실패 - PDNS 응답까지 대기: {}", e.getMessage());
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 교체 - 쓰는 도중 종료돼도 이전 스냅샷은 온전함
+    private void saveZoneSnapshot(Set<PDNSDto.ZoneName> zones) {
+        Path path = this.zoneSnapshotPath();
+        if (path == null) {
+            return;
+        }
+
         try {
-            this.cachedZoneNames = this.getZoneNamesSet();
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            List<String> names = zones.stream().map(PDNSDto.ZoneName::getName).sorted().toList();
+            objectMapper.writeValue(temp.toFile(), new ZoneSnapshot(System.currentTimeMillis(), names));
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (Exception e) {
-            log.error("정기 Zone Name 목록 갱신 중 에러 발생", e);
+            log.warn("Zone Name 스냅샷 저장 실패: {}", e.getMessage());
         }
     }
 
+    private Path zoneSnapshotPath() {
+        String path = pdnsProperties.getZoneSnapshotPath();
+        return path == null || path.isBlank() ? null : Path.of(path);
+    }
+
     /**
      * 레코드 추가
      * @param subDomain example, www 등
@@ -86,6 +193,19 @@ public class PDNSService {
      * @param memberId  memberId
      */
     public void addRecord(String subDomain, String zone, String type, String content, Long memberId) {
+        PhaseObservationService.Span span = phaseObservationService.begin(ADD_RECORD_OPERATION);
+        try {
+            this.addRecord(subDomain, zone, type, content, memberId, span);
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private void addRecord(String subDomain, String zone, String type, String content, Long memberId, PhaseObservationService.Span span) {
+        span.phase("member");
         zone = zone.toLowerCase().trim();
         subDomain = subDomain.toLowerCase().trim();
         type = type.toUpperCase().trim();
@@ -94,6 +214,14 @@ public class PDNSService {
         Member member = memberService.getMemberById(memberId);
 
         String fullDomain = this.buildFullDomain(subDomain, zone);
+
+        // 같은 값 재요청 (DDNS 클라이언트 주기적 갱신 등) -> 락, DB 쓰기, PDNS 요청 모두 생략
+        span.phase("unchanged-check");
+        if (this.isUnchangedContent(member, fullDomain, type, content)) {
+            return;
+        }
+
+        span.phase("existing-types");
         Set<String> existingRecordTypes = this.getAllRecordTypes(fullDomain);
 
         boolean isAdmin         = checkAdminService.isAdmin(memberId),
@@ -103,14 +231,17 @@ public class PDNSService {
                                 = type.equals("CNAME") ^ existingRecordTypes.contains("CNAME");
 
         // 도메인 소유주 체크
+        span.phase("owner-check");
         if (!isNewDomain && !haveSubDomainService.isOwnerOfDomain(member, fullDomain)) {
             throw new SecurityException("보유 도메인이 아님에도 수정하려는 절차가 진행중임");
         }
         // 최대 레코드수 체크
+        span.phase("count");
         if (!isAdmin && !isContentUpdate && !isNotOverMaxRecords(member)) {
             throw new IllegalStateException("최대 레코드 수 초과");
         }
         // 파라미터 체크 (
+        span.phase("validation");
         if (!isValidArguments(zone, subDomain, type, content, isAdmin)) {
             throw new IllegalArgumentException("옳바르지 않은 파라미터");
         }
@@ -119,10 +250,21 @@ public class PDNSService {
             throw new IllegalArgumentException("옳바르지 않은 서브 도메인");
         }
 
+        // 동일 타입 content 수정은 락 없이 버전 비교로 처리
+        // CNAME 공존 처리, 신규 생성 등 구조 변경만 락 사용
+        if (isContentUpdate) {
+            span.phase("cas-update");
+            if (this.updateContentWithoutLock(member, fullDomain, type, content)) {
+                return;
+            }
+        }
+
+        span.phase("lock");
         String lockKey = LOCK_KEY_PREFIX + fullDomain;
         String lockValue = lockService.lock(lockKey);
 
         try {
+            span.phase("db-write");
             LocalDate expiryDate = isAdmin
                     ? LocalDate.now().plusYears(999)
                     : isNewDomain
@@ -131,7 +273,9 @@ public class PDNSService {
 
             // CNAME 레코드는 단독으로만 존재 가능 -> 기존 도메인 지우기
             if (coexistCNAMEAndOtherType) {
+                span.phase("cname-cleanup");
                 this.deleteSubRecords(haveSubDomainService.getMemberSubDomainsByFullDomain(member, fullDomain));
+                span.phase("db-write");
             }
 
             // Entity 등록 or 상태 수정
@@ -139,22 +283,339 @@ public class PDNSService {
             HaveSubDomain haveSubDomain = null;
             if (isContentUpdate) {
                 haveSubDomain = haveSubDomainService.getHaveSubDomainByDetailInfo(member, fullDomain, type);
-                haveSubDomainService.updateContentAndSetPending(haveSubDomain, content);
+                haveSubDomain = haveSubDomainService.updateContentAndSetPending(haveSubDomain, content);
             } else {
                 haveSubDomain = haveSubDomainService.newHaveSubDomain(member, fullDomain, type, content, expiryDate); // 여기서 ADD_PENDING 으로 설정함
             }
 
-            // PDNS 반영 - 여기선 1개만 수정하니까 반환값 사용 안함
-            // 익셉션 터지면 여기서 안잡고 추 후 스케줄링에서 처리함
-            this.actionSubRecordsInPDNS(List.of(haveSubDomain), Action.REPLACE);
+            // PDNS 반영 - 실패하면 PENDING 상태로 남겨두고 스케줄링에서 처리함
+            span.phase("pdns-patch");
+            boolean pushed = !this.actionSubRecordsInPDNS(List.of(haveSubDomain), Action.REPLACE).isEmpty();
 
-            // db 상태 수정
-            haveSubDomainService.setStatusActivity(haveSubDomain);
+            // db 상태 수정 - 락 없는 content 수정(CAS) 경로와 겹칠 수 있으므로 버전 비교 후 전환
+            span.phase("status-update");
+            boolean activated = pushed && haveSubDomainService.activateOrRequeue(haveSubDomain.getId(), haveSubDomain.getVersion());
+
+            span.phase("event-publish");
+            recordEventPublisher.publish(memberId, fullDomain, type,
+                    activated ? RecordEventDto.ACTIVE : pushed ? RecordEventDto.PENDING : RecordEventDto.FAILED);
         } finally {
+            span.phase("unlock");
             lockService.unlock(lockKey, lockValue);
         }
     }
 
+    /**
+     * 레코드 일괄 추가
+     * 최대 레코드 수 체크는 1회, DB 저장은 배치 INSERT, PDNS 반영은 존 단위 PATCH 1회
+     * CNAME 공존 처리(기존 레코드 삭제)가 필요한 항목은 단건 API 로만 처리 가능 -> CONFLICT
+     * @param requests  추가할 레코드 목록
+     * @param memberId  memberId
+     * @return List<PDNSDto.BulkRecordResult> 요청 순서와 같은 항목별 처리 결과
+     */
+    public List<PDNSDto.BulkRecordResult> addRecords(List<PDNSDto.AddRecordRequest> requests, Long memberId) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BULK_RECORDS) {
+            throw new IllegalArgumentException("일괄 추가 요청 개수가 옳바르지 않음");
+        }
+
+        Member member = memberService.getMemberById(memberId);
+        boolean isAdmin = checkAdminService.isAdmin(memberId);
+
+        // 1. 정규화 + 유효성 검사 (항목당 검사가 가벼워 공용 ForkJoinPool 을 쓰는 병렬 스트림은 오히려 경합만 생김)
+        List<BulkItem> items = requests.stream()
+                .map(request -> this.normalizeBulkItem(request, isAdmin))
+                .toList();
+
+        // 2. 요청 내 중복 제거
+        Set<String> requestKeys = new HashSet<>();
+        for (BulkItem item : items) {
+            if (item.isPending() && !requestKeys.add(item.key())) {
+                item.complete(HttpStatus.BAD_REQUEST, "요청 내 중복 항목");
+            }
+        }
+
+        // 3. 기존 레코드 한 번에 조회
+        Set<String> fullDomains = new HashSet<>();
+        for (BulkItem item : items) {
+            if (item.isPending()) fullDomains.add(item.fullDomain);
+        }
+        Map<String, List<HaveSubDomain>> existingMap = new HashMap<>();
+        if (!fullDomains.isEmpty()) {
+            for (HaveSubDomain existing : haveSubDomainService.getSubDomainsByFullDomains(fullDomains)) {
+                existingMap.computeIfAbsent(existing.getFullDomain(), k -> new ArrayList<>()).add(existing);
+            }
+        }
+
+        // 4. 소유권, CNAME 공존, 최대 레코드 수 체크 후 INSERT / UPDATE 대상 분류 (DB 쓰기는 5, 6 에서)
+        int remainingQuota = isAdmin ? Integer.MAX_VALUE : member.getMaxRecords() - haveSubDomainService.getOwnedDomainCount(memberId);
+        Map<String, Set<String>> batchTypes = new HashMap<>();        // 이번 요청에서 새로 추가되는 도메인별 타입
+        Map<String, LocalDate> batchExpiryDates = new HashMap<>();   // 이번 요청에서 새로 생성되는 도메인 만료일
+        List<HaveSubDomain> inserts = new ArrayList<>();
+        List<BulkItem> insertItems = new ArrayList<>();
+        Map<BulkItem, RecordStateDto> updates = new LinkedHashMap<>();
+        Set<String> writtenKeys = new HashSet<>();
+
+        for (BulkItem item : items) {
+            if (!item.isPending()) continue;
+
+            List<HaveSubDomain> existing = existingMap.getOrDefault(item.fullDomain, List.of());
+            if (existing.stream().anyMatch(h -> !memberId.equals(h.getMemberId()))) {
+                item.complete(HttpStatus.FORBIDDEN, "보유 도메인이 아님");
+                continue;
+            }
+
+            HaveSubDomain sameType = existing.stream()
+                    .filter(h -> h.getRecordType().equals(item.type))
+                    .findFirst().orElse(null);
+
+            if (sameType != null) {
+                if (sameType.getDomainStatus() != Status.DELETE_PENDING && item.content.equals(sameType.getContent())) {
+                    item.complete(HttpStatus.OK, "변경 사항 없음");
+                    continue;
+                }
+                updates.put(item, new RecordStateDto(sameType.getId(), sameType.getFullDomain(), sameType.getRecordType(),
+                        sameType.getVersion(), sameType.getDomainStatus(), sameType.getContent()));
+                continue;
+            }
+
+            Set<String> types = new HashSet<>(batchTypes.getOrDefault(item.fullDomain, Set.of()));
+            existing.forEach(h -> types.add(h.getRecordType()));
+            if (!types.isEmpty() && (item.type.equals("CNAME") || types.contains("CNAME"))) {
+                item.complete(HttpStatus.CONFLICT, "CNAME 레코드는 다른 타입과 공존 불가");
+                continue;
+            }
+
+            boolean isNewDomain = types.isEmpty();
+            if (isNewDomain) {
+                if (!item.validLabel) {
+                    item.complete(HttpStatus.BAD_REQUEST, "옳바르지 않은 서브 도메인");
+                    continue;
+                }
+                if (remainingQuota <= 0) {
+                    item.complete(HttpStatus.CONFLICT, "최대 레코드 수 초과");
+                    continue;
+                }
+                remainingQuota--;
+            }
+
+            LocalDate expiryDate = isAdmin
+                    ? LocalDate.now().plusYears(999)
+                    : !existing.isEmpty()
+                    ? existing.getFirst().getExpiryDate()
+                    : batchExpiryDates.computeIfAbsent(item.fullDomain, k -> LocalDate.now().plusMonths(6));
+
+            inserts.add(HaveSubDomain.builder()
+                    .member(member)
+                    .fullDomain(item.fullDomain)
+                    .recordType(item.type)
+                    .content(item.content)
+                    .expiryDate(expiryDate)
+                    .domainStatus(Status.ADD_PENDING)
+                    .build());
+            insertItems.add(item);
+            batchTypes.computeIfAbsent(item.fullDomain, k -> new HashSet<>()).add(item.type);
+        }
+
+        // 5. 배치 INSERT (한 트랜잭션 - 실패하면 전부 롤백되므로 INSERT 항목만 실패 처리)
+        try {
+            haveSubDomainService.newHaveSubDomains(inserts);
+            insertItems.forEach(item -> writtenKeys.add(item.key()));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("일괄 추가 중 동시 등록 충돌 - INSERT {}개 롤백", inserts.size(), e);
+            insertItems.forEach(item -> item.complete(HttpStatus.CONFLICT, "동시 등록 충돌"));
+        } catch (DataAccessException e) {
+            log.error("일괄 추가 INSERT 실패 - {}개 롤백", inserts.size(), e);
+            insertItems.forEach(item -> item.complete(HttpStatus.INTERNAL_SERVER_ERROR, "저장 실패"));
+        }
+
+        // 6. 동일 타입 content 수정 (compare-and-set) - 항목별로 커밋되므로 결과도 항목별로 남김
+        for (Map.Entry<BulkItem, RecordStateDto> update : updates.entrySet()) {
+            BulkItem item = update.getKey();
+            try {
+                if (haveSubDomainService.compareAndSetContent(update.getValue(), item.content)) {
+                    writtenKeys.add(item.key());
+                } else {
+                    item.complete(HttpStatus.CONFLICT, "처리 대기중인 레코드");
+                }
+            } catch (DataAccessException e) {
+                log.error("일괄 추가 중 레코드 수정 실패: {}", item.key(), e);
+                item.complete(HttpStatus.INTERNAL_SERVER_ERROR, "저장 실패");
+            }
+        }
+
+        // 7. PDNS 반영 (존 단위 PATCH) 후 성공분만 ACTIVE 전환
+        if (!writtenKeys.isEmpty()) {
+            List<HaveSubDomain> targets = new ArrayList<>();
+            for (RecordStateDto state : haveSubDomainService.getRecordStates(member, fullDomains)) {
+                if (writtenKeys.contains(state.fullDomain() + "/" + state.recordType())) {
+                    targets.add(HaveSubDomain.builder()
+                            .id(state.id())
+                            .member(member)
+                            .fullDomain(state.fullDomain())
+                            .recordType(state.recordType())
+                            .content(state.content())
+                            .version(state.version())
+                            .build());
+                }
+            }
+
+            // 단건 경로(락/CAS), 삭제와 겹칠 수 있으므로 도메인 락 안에서 버전 확인 후 반영
+            List<HaveSubDomain> activated = this.pushWrittenRecords(targets);
+            recordEventPublisher.publish(activated, RecordEventDto.ACTIVE);
+            // DB 에는 기록됐지만 아직 반영 전인 행도 알림 (SSE 구독자, DDNS 캐시 무효화)
+            List<HaveSubDomain> pending = new ArrayList<>(targets);
+            pending.removeAll(activated);
+            recordEventPublisher.publish(pending, RecordEventDto.PENDING);
+
+            Set<String> successKeys = new HashSet<>();
+            activated.forEach(h -> successKeys.add(h.getFullDomain() + "/" + h.getRecordType()));
+
+            for (BulkItem item : items) {
+                if (!item.isPending()) continue;
+                if (successKeys.contains(item.key())) {
+                    item.complete(HttpStatus.CREATED, null);
+                } else {
+                    item.complete(HttpStatus.ACCEPTED, "PDNS 반영 대기중");
+                }
+            }
+        }
+
+        return items.stream().map(BulkItem::toResult).toList();
+    }
+
+    /**
+     * 일괄 추가 항목 정규화 및 DB 조회 없이 가능한 유효성 검사
+     */
+    private BulkItem normalizeBulkItem(PDNSDto.AddRecordRequest request, boolean isAdmin) {
+        String  zone      = request.getZone(),
+                subDomain = request.getSubDomain(),
+                type      = request.getType(),
+                content   = request.getContent();
+
+        if (zone == null || subDomain == null || type == null || content == null || content.isEmpty()) {
+            return BulkItem.rejected(request, HttpStatus.BAD_REQUEST, "옳바르지 않은 파라미터");
+        }
+
+        zone = zone.toLowerCase().trim();
+        subDomain = subDomain.toLowerCase().trim();
+        type = type.toUpperCase().trim();
+        content = this.modifyContentByType(type, content).trim();
+
+        if (!cachedZoneNames.contains(PDNSDto.ZoneName.builder().name(zone).build())) {
+            return BulkItem.rejected(request, HttpStatus.NOT_FOUND, "존재하지 않는 존");
+        }
+        if (!isValidArguments(zone, subDomain, type, content, isAdmin)) {
+            return BulkItem.rejected(request, HttpStatus.BAD_REQUEST, "옳바르지 않은 파라미터");
+        }
+
+        return new BulkItem(subDomain, zone, type, content, this.buildFullDomain(subDomain, zone), isValidLabel(subDomain, isAdmin));
+    }
+
+    /**
+     * 이미 같은 content 로 등록(또는 반영 대기)된 레코드인지 확인
+     * 회원 기준으로 조회하므로 결과가 있으면 소유권도 확인된 것
+     * @return boolean 변경 사항 없음 여부
+     */
+    private boolean isUnchangedContent(Member member, String fullDomain, String type, String content) {
+        return haveSubDomainService.getRecordState(member, fullDomain, type)
+                .filter(state -> state.domainStatus() != Status.DELETE_PENDING)
+                .map(state -> content.equals(state.content()))
+                .orElse(false);
+    }
+
+    /**
+     * 락 없이 content 수정 (compare-and-set, 충돌 시 재시도)
+     * @return boolean 처리 여부 - false 면 ACTIVE 상태가 아니므로 락 경로로 처리해야 함
+     */
+    private boolean updateContentWithoutLock(Member member, String fullDomain, String type, String content) {
+        for (int attempt = 0; attempt < MAX_CAS_ATTEMPTS; attempt++) {
+            RecordStateDto state = haveSubDomainService.getRecordState(member, fullDomain, type)
+                    .orElseThrow(() -> new NoSuchElementException("수정하려는 레코드가 없음"));
+
+            // PENDING 상태면 다른 작업 진행중 - 락 경로로 넘김
+            if (state.domainStatus() != Status.ACTIVE) {
+                return false;
+            }
+
+            if (!haveSubDomainService.compareAndSetContent(state, content)) {
+                continue;   // 다른 요청이 먼저 수정함 -> 다시 읽고 재시도
+            }
+
+            HaveSubDomain target = HaveSubDomain.builder()
+                    .id(state.id())
+                    .member(member)
+                    .fullDomain(fullDomain)
+                    .recordType(type)
+                    .content(content)
+                    .version(state.version() + 1)
+                    .build();
+
+            // 반영하지 못했으면 UPDATE_PENDING 으로 남아 스케줄러가 DB 최신 값으로 처리
+            if (this.pushWrittenRecords(List.of(target)).isEmpty()) {
+                recordEventPublisher.publish(List.of(target), RecordEventDto.PENDING);
+            } else {
+                recordEventPublisher.publish(List.of(target), RecordEventDto.ACTIVE);
+            }
+            return true;
+        }
+
+        throw new ConcurrencyFailureException("동시 수정 충돌로 레코드 수정 실패");
+    }
+
+    /**
+     * 락 없이 DB 에 기록한 변경 (content CAS 수정, 일괄 추가, DDNS) 을 PDNS 에 반영 후 ACTIVE 전환
+     * PATCH 는 도메인 락을 잡고 버전을 다시 확인한 뒤에만 보냄
+     * - 락 밖에서 보내면 삭제(DELETE PATCH + 행 삭제)가 먼저 끝난 뒤 REPLACE 가 도착해 DB 행 없는 레코드가 PDNS 에 남을 수 있음
+     * 락을 못 잡았거나 그 사이 버전이 바뀐(삭제된) 행은 건너뜀 - PENDING 으로 남은 행은 스케줄러가 처리
+     * @param written   id, version(기록 직후 버전), 반영할 값이 채워진 엔티티
+     * @return List<HaveSubDomain> ACTIVE 로 전환된 엔티티
+     */
+    public List<HaveSubDomain> pushWrittenRecords(List<HaveSubDomain> written) {
+        if (written.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, String> keyAndValues = new HashMap<>();
+        Set<String> contendedKeys = new HashSet<>();
+        try {
+            List<HaveSubDomain> locked = new ArrayList<>();
+            for (HaveSubDomain haveSubDomain : written) {
+                String key = LOCK_KEY_PREFIX + haveSubDomain.getFullDomain();
+                if (!keyAndValues.containsKey(key) && !contendedKeys.contains(key)) {
+                    try {
+                        keyAndValues.put(key, lockService.lock(key));
+                    } catch (ConcurrencyFailureException e) {
+                        contendedKeys.add(key);     // 다른 작업(삭제, 스케줄러 등)이 처리중
+                    }
+                }
+                if (keyAndValues.containsKey(key)) {
+                    locked.add(haveSubDomain);
+                }
+            }
+
+            // 상태 전환, 소유자 변경은 모두 버전을 올리므로 버전이 같으면 기록한 그대로임 (행이 없으면 삭제된 것)
+            Map<Long, Long> currentVersions = new HashMap<>();
+            for (RecordStateDto state : haveSubDomainService.getRecordStatesByIds(locked.stream().map(HaveSubDomain::getId).toList())) {
+                currentVersions.put(state.id(), state.version());
+            }
+            List<HaveSubDomain> unchanged = locked.stream()
+                    .filter(h -> Objects.equals(currentVersions.get(h.getId()), h.getVersion()))
+                    .toList();
+
+            List<HaveSubDomain> activated = new ArrayList<>();
+            for (HaveSubDomain pushed : this.actionSubRecordsInPDNS(unchanged, Action.REPLACE)) {
+                if (haveSubDomainService.activateOrRequeue(pushed.getId(), pushed.getVersion())) {
+                    activated.add(pushed);
+                }
+            }
+            return activated;
+        } finally {
+            for (Map.Entry<String, String> entry : keyAndValues.entrySet()) {
+                lockService.unlock(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
     public void deleteSubRecord(Member member, String subDomain, String zone) {
         String fullDomain = this.buildFullDomain(subDomain, zone);
 
@@ -173,7 +634,11 @@ public class PDNSService {
         }
     }
 
-    public void modifyPendingRecords(List<HaveSubDomain> haveSubDomains, Status status) {
+    /**
+     * PENDING 레코드 PDNS 반영 후 상태 전환 (ACTIVE 또는 삭제)
+     * @return int PDNS 반영에 성공한 행 수 (다른 작업이 락을 잡고 있던 행은 제외됨)
+     */
+    public int modifyPendingRecords(List<HaveSubDomain> haveSubDomains, Status status) {
         if (haveSubDomains.isEmpty()) {
             throw new IllegalArgumentException("추가하려는 도메인 목록이 비어있음");
         }
@@ -185,8 +650,13 @@ public class PDNSService {
         Action action = status.equals(Status.DELETE_PENDING) ? Action.DELETE : Action.REPLACE;
         Map<String, String> keyAndValues = new HashMap<>();
 
+        PhaseObservationService.Span span = phaseObservationService.begin(MODIFY_PENDING_OPERATION);
+        SchedulerBatchEvent event = new SchedulerBatchEvent();
+        event.begin();
+        event.size = haveSubDomains.size();
         try {
             // 처리하기전에 락 시작
+            span.phase("lock");
             List<HaveSubDomain> canProcessHaveSubDomains = new ArrayList<>();
             for (HaveSubDomain haveSubDomain : haveSubDomains) {
                 String key = LOCK_KEY_PREFIX + haveSubDomain.getFullDomain();
@@ -201,19 +671,40 @@ public class PDNSService {
                 keyAndValues.put(key, value);
             }
 
+            event.locked = canProcessHaveSubDomains.size();
+
             // 이미 DB에 저장된거임 - PDNS에 반영하고 상태 수정하면 됨
+            span.phase("pdns-patch");
             List<HaveSubDomain> successSubDomains = this.actionSubRecordsInPDNS(canProcessHaveSubDomains, action);
+            event.successes = successSubDomains.size();
             log.info("{} 레코드 {}개 PDNS 반영 완료", status.name(), successSubDomains.size());
 
+            span.phase("db-write");
             if (action.equals(Action.REPLACE)) {
-                haveSubDomainService.setStatusActivity(successSubDomains);
+                haveSubDomainService.setStatusActivity(successSubDomains, status);
             } else {
                 haveSubDomainService.deleteSubDomains(successSubDomains);
             }
+
+            span.phase("event-publish");
+            recordEventPublisher.publish(successSubDomains, action.equals(Action.REPLACE) ? RecordEventDto.ACTIVE : RecordEventDto.DELETED);
+
+            return successSubDomains.size();
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
         } finally {
+            span.phase("unlock");
             for (Map.Entry<String, String> entry : keyAndValues.entrySet()) {
                 lockService.unlock(entry.getKey(), entry.getValue());
             }
+            span.end();
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.status = status.name();
+                event.commit();
+            }
         }
     }
 
@@ -226,6 +717,16 @@ public class PDNSService {
 
         List<HaveSubDomain> deleteSuccess = this.actionSubRecordsInPDNS(haveSubDomains, Action.DELETE);
         haveSubDomainService.deleteSubDomains(deleteSuccess);
+        recordEventPublisher.publish(deleteSuccess, RecordEventDto.DELETED);
+    }
+
+    /**
+     * PDNS 에서만 레코드 삭제 (DB 상태 변경은 호출측 책임)
+     * @param haveSubDomains
+     * @return List<HaveSubDomain> PDNS 반영 성공한 엔티티 리스트
+     */
+    public List<HaveSubDomain> deleteSubRecordsInPDNS(List<HaveSubDomain> haveSubDomains) {
+        return this.actionSubRecordsInPDNS(haveSubDomains, Action.DELETE);
     }
 
     public void deleteSubRecordsByMemberId(Long memberId) {
@@ -259,7 +760,7 @@ public class PDNSService {
                 .toBodilessEntity();
         
         log.info("존 생성 완료: {}", zoneName);
-        this.cachedZoneNames = this.getZoneNamesSet(); // 캐시 갱신
+        this.refreshZoneNames(); // 캐시 갱신
     }
 
     /**
@@ -314,11 +815,34 @@ public class PDNSService {
             zoneSubDomainsMap.get(zone).add(haveSubDomain);
         }
 
-        for (String zone : zoneRrsetsMap.keySet()) {
+        // 존이 하나면 바로 요청, 여러 개면 존 단위로 동시에 요청
+        if (zoneRrsetsMap.size() == 1) {
+            String zone = zoneRrsetsMap.keySet().iterator().next();
             try {
                 patchModifyRecord(zoneRrsetsMap.get(zone), zone);
+                successSubDomains.addAll(zoneSubDomainsMap.get(zone));
             } catch (Exception e) {
                 log.error("존 {} 에 대한 레코드 {} 중 {} 작업 실패", zone, zoneRrsetsMap.get(zone).size(), action.name(), e);
+            }
+            return successSubDomains;
+        }
+
+        Map<String, Future<?>> zoneFutures = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<String, List<PDNSDto.Rrset>> entry : zoneRrsetsMap.entrySet()) {
+                zoneFutures.put(entry.getKey(), executor.submit(() -> patchModifyRecord(entry.getValue(), entry.getKey())));
+            }
+        } // close() 에서 모든 존 요청 완료까지 대기
+
+        for (Map.Entry<String, Future<?>> entry : zoneFutures.entrySet()) {
+            String zone = entry.getKey();
+            try {
+                entry.getValue().get();
+            } catch (ExecutionException e) {
+                log.error("존 {} 에 대한 레코드 {} 중 {} 작업 실패", zone, zoneRrsetsMap.get(zone).size(), action.name(), e.getCause());
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 continue;
             }
             successSubDomains.addAll(zoneSubDomainsMap.get(zone));
@@ -327,20 +851,196 @@ public class PDNSService {
         return successSubDomains;
     }
 
+    /**
+     * 존의 rrset 을 스트리밍으로 읽어 하나씩 전달 (응답 전체를 메모리에 올리지 않음)
+     * @param zone      nulldns.top, example.com 등
+     * @param consumer  rrset 처리기
+     */
+    public void forEachServedRrset(String zone, Consumer<PDNSDto.ServedRrset> consumer) {
+        this.streamServedRrsets(zone, "/zones/" + zone, consumer);
+    }
+
+    /**
+     * 특정 rrset 하나만 조회 (rrset_name, rrset_type 필터 - 필터 미지원 버전이어도 결과는 같음)
+     * @param zone          nulldns.top, example.com 등
+     * @param fullDomain    _acme-challenge.example.nulldns.top 등
+     * @param type          A, CNAME, TXT 등
+     */
+    public Optional<PDNSDto.ServedRrset> getServedRrset(String zone, String fullDomain, String type) {
+        String name = buildFqdnForPowerDns(fullDomain);
+        List<PDNSDto.ServedRrset> found = new ArrayList<>();
+
+        this.streamServedRrsets(zone, "/zones/" + zone + "?rrset_name=" + name + "&rrset_type=" + type, rrset -> {
+            if (name.equalsIgnoreCase(rrset.name()) && type.equals(rrset.type())) {
+                found.add(rrset);
+            }
+        });
+        return found.stream().findFirst();
+    }
+
+    private void streamServedRrsets(String zone, String uri, Consumer<PDNSDto.ServedRrset> consumer) {
+        PdnsRequestEvent event = new PdnsRequestEvent();
+        event.begin();
+        try {
+            this.exchangeServedRrsets(uri, consumer, event);
+        } finally {
+            commitRequestEvent(event, "GET", zone);
+        }
+    }
+
+    private void exchangeServedRrsets(String uri, Consumer<PDNSDto.ServedRrset> consumer, PdnsRequestEvent event) {
+        restClient.get()
+                .uri(uri)
+                .exchange((request, response) -> {
+                    event.status = response.getStatusCode().value();
+                    if (response.getStatusCode().isError()) {
+                        throw new IllegalStateException("PowerDNS API 존 조회 중 에러 발생: " + response.getStatusCode());
+                    }
+
+                    try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+                        if (parser.nextToken() != JsonToken.START_OBJECT) {
+                            throw new IllegalStateException("PowerDNS API 존 조회 응답 형식 오류");
+                        }
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String field = parser.currentName();
+                            JsonToken value = parser.nextToken();
+
+                            if ("rrsets".equals(field) && value == JsonToken.START_ARRAY) {
+                                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                    consumer.accept(objectMapper.readValue(parser, PDNSDto.ServedRrset.class));
+                                    event.rrsets++;
+                                }
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * 전체 존의 SOA serial 조회 (존 목록 API 1회)
+     * @return Map<String, Long> 존 이름 -> serial
+     */
+    public Map<String, Long> getZoneSerials() {
+        PdnsRequestEvent event = new PdnsRequestEvent();
+        event.begin();
+        List<PDNSDto.ZoneSerial> zones;
+        try {
+            ResponseEntity<List<PDNSDto.ZoneSerial>> response = restClient.get()
+                    .uri("zones")
+                    .retrieve()
+                    .toEntity(new ParameterizedTypeReference<List<PDNSDto.ZoneSerial>>() {});
+            event.status = response.getStatusCode().value();
+            zones = response.getBody();
+        } catch (RestClientResponseException e) {
+            event.status = e.getStatusCode().value();
+            throw e;
+        } finally {
+            commitRequestEvent(event, "GET", "*");
+        }
+
+        Map<String, Long> serials = new HashMap<>();
+        if (zones != null) {
+            for (PDNSDto.ZoneSerial zone : zones) {
+                String name = zone.name();
+                serials.put(name.endsWith(".") ? name.substring(0, name.length() - 1) : name,
+                        zone.serial() == null ? 0L : zone.serial());
+            }
+        }
+        return serials;
+    }
+
+    /**
+     * rrset 변경 사항을 나눠서 PDNS 에 반영 (관리 도구용)
+     * @param zone      nulldns.top, example.com 등
+     * @param rrsets    반영할 rrset (REPLACE / DELETE)
+     */
+    public void applyRrsets(String zone, List<PDNSDto.Rrset> rrsets) {
+        for (int from = 0; from < rrsets.size(); from += MAX_RRSETS_PER_PATCH) {
+            patchModifyRecord(rrsets.subList(from, Math.min(from + MAX_RRSETS_PER_PATCH, rrsets.size())), zone);
+        }
+    }
+
     /**
      * 레코드 수정/삭제 공통 패치 메서드
      * @param rrsets
      * @param zone
      */
     private void patchModifyRecord(List<PDNSDto.Rrset> rrsets, String zone) {
-        restClient.patch().uri("/zones/" + zone)
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(Map.of("rrsets", rrsets))
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, (req, res) -> {
-                    throw new IllegalStateException("PowerDNS API 통신 중 에러 발생");
-                })
-                .body(Void.class);
+        String zoneTag = zoneTag(zone);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        PdnsRequestEvent event = new PdnsRequestEvent();
+        event.begin();
+        event.rrsets = rrsets.size();
+        boolean success = false;
+        try {
+            ResponseEntity<Void> response = restClient.patch().uri("/zones/" + zone)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("rrsets", rrsets))
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, (req, res) -> {
+                        event.status = res.getStatusCode().value();
+                        throw new IllegalStateException("PowerDNS API 통신 중 에러 발생");
+                    })
+                    .toBodilessEntity();
+            event.status = response.getStatusCode().value();
+            success = true;
+        } finally {
+            recordPatchMetrics(sample, zoneTag, rrsets, success);
+            commitRequestEvent(event, "PATCH", zone);
+        }
+    }
+
+    // JFR 기록이 꺼져 있으면 shouldCommit() 에서 바로 끝남
+    private void commitRequestEvent(PdnsRequestEvent event, String method, String zone) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = method;
+            event.zone = zone;
+            event.commit();
+        }
+    }
+
+    private void recordPatchMetrics(Timer.Sample sample, String zoneTag, List<PDNSDto.Rrset> rrsets, boolean success) {
+        String outcome = success ? "success" : "failure";
+
+        sample.stop(Timer.builder("subdns.pdns.patch")
+                .tag("zone", zoneTag)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+
+        DistributionSummary.builder("subdns.pdns.patch.rrsets")
+                .tag("zone", zoneTag)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(rrsets.size());
+
+        int deletes = 0;
+        for (PDNSDto.Rrset rrset : rrsets) {
+            if (Action.DELETE.name().equals(rrset.getChangeType())) {
+                deletes++;
+            }
+        }
+        if (deletes > 0) {
+            meterRegistry.counter("subdns.pdns.rrsets", "action", Action.DELETE.name(), "outcome", outcome).increment(deletes);
+        }
+        if (rrsets.size() > deletes) {
+            meterRegistry.counter("subdns.pdns.rrsets", "action", Action.REPLACE.name(), "outcome", outcome).increment(rrsets.size() - deletes);
+        }
+    }
+
+    private String zoneTag(String zone) {
+        if (taggedZones.contains(zone)) {
+            return zone;
+        }
+        if (taggedZones.size() < MAX_ZONE_TAGS) {
+            taggedZones.add(zone);
+            return zone;
+        }
+        return "other";
     }
 
     /**
@@ -456,20 +1156,33 @@ public class PDNSService {
     }
 
     private Set<PDNSDto.ZoneName> getZoneNamesSet() {
-        Set<PDNSDto.ZoneName> zones = restClient.get()
-                .uri("zones")
-                .retrieve()
-                .body(new ParameterizedTypeReference<Set<PDNSDto.ZoneName>>() {});
+        CacheRefreshEvent event = new CacheRefreshEvent();
+        event.begin();
+        Set<PDNSDto.ZoneName> zones = null;
+        try {
+            zones = restClient.get()
+                    .uri("zones")
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<Set<PDNSDto.ZoneName>>() {});
+
+            // PowerDNS API에서 Zone 정보 가져오면 마지막 문자가 . 으로 끝남
+            for (PDNSDto.ZoneName zone : zones) {
+                String name = zone.getName();
+                if (name.endsWith(".")) {
+                    zone.setName(name.substring(0, name.length() - 1));
+                }
+            }
 
-        // PowerDNS API에서 Zone 정보 가져오면 마지막 문자가 . 으로 끝남
-        for (PDNSDto.ZoneName zone : zones) {
-            String name = zone.getName();
-            if (name.endsWith(".")) {
-                zone.setName(name.substring(0, name.length() - 1));
+            return zones;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.cache = CacheRefreshEvent.ZONES;
+                event.entries = zones == null ? -1 : zones.size();
+                event.success = zones != null;
+                event.commit();
             }
         }
-
-        return zones;
     }
 
     /**
@@ -498,4 +1211,52 @@ public class PDNSService {
 
         return recordTypes;
     }
+
+    /**
+     * 일괄 추가 항목별 처리 상태 (status 가 null 이면 아직 처리중)
+     */
+    private static class BulkItem {
+        private final String subDomain, zone, type, content, fullDomain;
+        private final boolean validLabel;
+        private HttpStatus status;
+        private String message;
+
+        private BulkItem(String subDomain, String zone, String type, String content, String fullDomain, boolean validLabel) {
+            this.subDomain = subDomain;
+            this.zone = zone;
+            this.type = type;
+            this.content = content;
+            this.fullDomain = fullDomain;
+            this.validLabel = validLabel;
+        }
+
+        private static BulkItem rejected(PDNSDto.AddRecordRequest request, HttpStatus status, String message) {
+            BulkItem item = new BulkItem(request.getSubDomain(), request.getZone(), request.getType(), request.getContent(), null, false);
+            item.complete(status, message);
+            return item;
+        }
+
+        private boolean isPending() {
+            return status == null;
+        }
+
+        private void complete(HttpStatus status, String message) {
+            this.status = status;
+            this.message = message;
+        }
+
+        private String key() {
+            return fullDomain + "/" + type;
+        }
+
+        private PDNSDto.BulkRecordResult toResult() {
+            return PDNSDto.BulkRecordResult.builder()
+                    .subDomain(subDomain)
+                    .zone(zone)
+                    .type(type)
+                    .status(status.value())
+                    .message(message)
+                    .build();
+        }
+    }
 }
@@ -0,0 +1,304 @@
+package top.nulldns.subdns.service.facade;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import top.nulldns.subdns.config.finalconfig.Status;
+import top.nulldns.subdns.dao.HaveSubDomain;
+import top.nulldns.subdns.dto.PendingBacklogDto;
+import top.nulldns.subdns.dto.PendingDrainProgressDto;
+import top.nulldns.subdns.dto.SchedulerRunDto;
+import top.nulldns.subdns.service.domain.HaveSubDomainService;
+import top.nulldns.subdns.service.infra.LockService;
+import top.nulldns.subdns.service.infra.StatusRegistryService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PENDING 적체 현황 + 즉시 처리
+ * - 상태별 레코드 수: 수집 시점마다 DB 를 조회하지 않도록 주기적으로 집계한 값을 게이지로 노출
+ * - 가장 오래된 PENDING / 오래 남은 행: (domain_status, status_changed_at) 인덱스 조회
+ * - 최근 실행 이력, 즉시 처리 진행 상황: Redis 에 남김 (어느 서버에서 실행했든 같은 값을 봄)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PendingBacklogService {
+    private final HaveSubDomainService haveSubDomainService;
+    private final PDNSService pdnsService;
+    private final LockService lockService;
+    private final StatusRegistryService statusRegistryService;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    // 스케줄러의 PENDING 처리와 같은 락 - 즉시 처리 중에는 스케줄러가 건너뜀
+    public static final String PENDING_LOCK_KEY = "scheduler:pending";
+
+    private static final List<Status> PENDING_STATUSES = List.of(Status.ADD_PENDING, Status.UPDATE_PENDING, Status.DELETE_PENDING);
+    private static final String RUN_HISTORY = "scheduler:runs";
+    private static final String DRAIN_PROGRESS = "scheduler:drain";
+    private static final int RUN_HISTORY_SIZE = 50;
+    private static final int STALE_ROW_LIMIT = 50;
+    // 스케줄러는 1분마다 상태를 번갈아 처리하므로 상태별로 3분에 한 번 차례가 옴 - 10분이면 3회 이상 실패한 행
+    private static final Duration STALE_AFTER = Duration.ofMinutes(10);
+    private static final int DRAIN_BATCH_SIZE = 500;
+    // 배치마다 연장 - 처리중인 서버가 종료되면 이 시간 뒤 스케줄러가 다시 처리
+    private static final Duration DRAIN_LOCK_TTL = Duration.ofMinutes(5);
+
+    private final Map<Status, AtomicLong> statusCounts = new EnumMap<>(Status.class);
+
+    private final ExecutorService drainExecutor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("pending-drain").factory());
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    // Redis 를 읽지 못할 때 보여줄 이 서버의 마지막 진행 상황
+    private volatile PendingDrainProgressDto drainProgress = PendingDrainProgressDto.notStarted();
+
+    @PostConstruct
+    private void init() {
+        for (Status status : Status.values()) {
+            AtomicLong count = new AtomicLong();
+            statusCounts.put(status, count);
+            Gauge.builder("subdns.records", count, AtomicLong::get)
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        drainExecutor.shutdownNow();
+    }
+
+    @Scheduled(fixedDelay = 30_000)
+    public void refresh() {
+        try {
+            Map<Status, Long> counts = new EnumMap<>(Status.class);
+            for (Object[] row : haveSubDomainService.getStatusStats()) {
+                counts.put((Status) row[0], (Long) row[1]);
+            }
+            for (Status status : Status.values()) {
+                statusCounts.get(status).set(counts.getOrDefault(status, 0L));
+            }
+        } catch (Exception e) {
+            log.warn("상태별 레코드 수 집계 실패: {}", e.getMessage());
+        }
+    }
+
+    public Map<Status, Long> getStatusCounts() {
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        statusCounts.forEach((status, count) -> counts.put(status, count.get()));
+        return counts;
+    }
+
+    public long getPendingCount() {
+        return PENDING_STATUSES.stream()
+                .mapToLong(status -> statusCounts.get(status).get())
+                .sum();
+    }
+
+    public PendingBacklogDto getBacklog() {
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<Status, LocalDateTime> oldest = haveSubDomainService.getOldestStatusChanges(PENDING_STATUSES);
+        Map<Status, Long> oldestSeconds = new EnumMap<>(Status.class);
+        oldest.forEach((status, changedAt) -> oldestSeconds.put(status, Duration.between(changedAt, now).toSeconds()));
+
+        List<SchedulerRunDto> runs = getRecentRuns();
+
+        return new PendingBacklogDto(
+                getStatusCounts(),
+                oldest,
+                oldestSeconds,
+                runs,
+                successesPerMinute(runs),
+                haveSubDomainService.getStaleRows(PENDING_STATUSES, now.minus(STALE_AFTER), STALE_ROW_LIMIT),
+                getDrainProgress()
+        );
+    }
+
+    /**
+     * 스케줄러 실행 결과 기록 (실패해도 스케줄러 작업에는 영향 없음)
+     */
+    public void recordRun(String job, long durationMs, long rows, long successes) {
+        try {
+            String value = System.currentTimeMillis() + "|" + job + "|" + durationMs + "|" + rows + "|" + successes;
+            statusRegistryService.pushHistory(RUN_HISTORY, value, RUN_HISTORY_SIZE);
+        } catch (Exception e) {
+            log.warn("스케줄러 실행 이력 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    public List<SchedulerRunDto> getRecentRuns() {
+        List<SchedulerRunDto> runs = new ArrayList<>();
+        for (String value : statusRegistryService.getHistory(RUN_HISTORY)) {
+            String[] parts = value.split("\\|");
+            if (parts.length != 5) {
+                continue;
+            }
+            try {
+                runs.add(new SchedulerRunDto(
+                        parts[1],
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[0])), ZoneId.systemDefault()),
+                        Long.parseLong(parts[2]),
+                        Long.parseLong(parts[3]),
+                        Long.parseLong(parts[4])
+                ));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return runs;
+    }
+
+    // 가장 오래된 실행 시작부터 가장 최근 실행 종료까지 반영된 행 수 (쉬는 시간 포함)
+    private double successesPerMinute(List<SchedulerRunDto> runs) {
+        if (runs.isEmpty()) {
+            return 0;
+        }
+
+        SchedulerRunDto oldestRun = runs.getLast();
+        LocalDateTime from = oldestRun.finishedAt().minus(Duration.ofMillis(oldestRun.durationMs()));
+        long windowMs = Duration.between(from, runs.getFirst().finishedAt()).toMillis();
+        if (windowMs <= 0) {
+            return 0;
+        }
+
+        long successes = runs.stream().mapToLong(SchedulerRunDto::successes).sum();
+        return successes * 60_000.0 / windowMs;
+    }
+
+    /**
+     * PENDING 행 즉시 처리 시작 (백그라운드 실행, 진행 상황은 getDrainProgress)
+     * 스케줄러와 같은 락을 잡으므로 다른 서버의 스케줄러나 즉시 처리와 겹치지 않음
+     * @param status 처리할 상태 (null 이면 ADD -> UPDATE -> DELETE 순서로 전체)
+     * @throws ConcurrencyFailureException 이미 처리중
+     */
+    public PendingDrainProgressDto startDrain(Status status) {
+        if (status != null && !PENDING_STATUSES.contains(status)) {
+            throw new IllegalArgumentException("PENDING 상태만 처리할 수 있습니다.");
+        }
+        if (!draining.compareAndSet(false, true)) {
+            throw new ConcurrencyFailureException("이미 즉시 처리중");
+        }
+
+        String lockValue;
+        try {
+            lockValue = lockService.lock(PENDING_LOCK_KEY, DRAIN_LOCK_TTL);
+        } catch (RuntimeException e) {
+            draining.set(false);
+            throw e;
+        }
+
+        List<Status> statuses = status == null ? PENDING_STATUSES : List.of(status);
+        PendingDrainProgressDto started = new PendingDrainProgressDto(true, LocalDateTime.now(), null, statuses.getFirst(), 0, 0, 0, 0, null);
+        saveDrainProgress(started);
+        try {
+            drainExecutor.execute(() -> {
+                try {
+                    drain(statuses, started.startedAt(), lockValue);
+                } finally {
+                    lockService.unlock(PENDING_LOCK_KEY, lockValue);
+                    draining.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {    // 종료중
+            lockService.unlock(PENDING_LOCK_KEY, lockValue);
+            draining.set(false);
+            throw e;
+        }
+
+        return started;
+    }
+
+    /**
+     * 즉시 처리 진행 상황 (어느 서버에서 실행중이든 같은 값)
+     */
+    public PendingDrainProgressDto getDrainProgress() {
+        try {
+            String saved = statusRegistryService.getStatus(DRAIN_PROGRESS);
+            return saved == null ? PendingDrainProgressDto.notStarted() : objectMapper.readValue(saved, PendingDrainProgressDto.class);
+        } catch (Exception e) {
+            log.warn("즉시 처리 진행 상황 조회 실패: {}", e.getMessage());
+            return drainProgress;
+        }
+    }
+
+    // 실행중인 값은 락과 같은 TTL - 처리하던 서버가 종료되면 실행중으로 남지 않음
+    private void saveDrainProgress(PendingDrainProgressDto progress) {
+        drainProgress = progress;
+        try {
+            String value = objectMapper.writeValueAsString(progress);
+            if (progress.running()) {
+                statusRegistryService.setStatus(DRAIN_PROGRESS, value, DRAIN_LOCK_TTL);
+            } else {
+                statusRegistryService.setStatus(DRAIN_PROGRESS, value);
+            }
+        } catch (Exception e) {
+            log.warn("즉시 처리 진행 상황 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void drain(List<Status> statuses, LocalDateTime startedAt, String lockValue) {
+        long startNanos = System.nanoTime();
+        int batches = 0;
+        long processed = 0, succeeded = 0, failed = 0;
+        String error = null;
+
+        try {
+            for (Status status : statuses) {
+                long lastId = 0;
+                while (true) {
+                    // 락이 만료됐다면 스케줄러가 같은 행을 처리하고 있을 수 있으므로 중단
+                    if (!lockService.extend(PENDING_LOCK_KEY, lockValue, DRAIN_LOCK_TTL)) {
+                        throw new IllegalStateException("즉시 처리 락 만료");
+                    }
+
+                    List<HaveSubDomain> targets = haveSubDomainService.getAvailableSubDomains(status, lastId, DRAIN_BATCH_SIZE);
+                    if (targets.isEmpty()) {
+                        break;
+                    }
+                    lastId = targets.getLast().getId();
+
+                    int successes = 0;
+                    try {
+                        successes = pdnsService.modifyPendingRecords(targets, status);
+                    } catch (RuntimeException e) {  // 이 배치만 실패 처리하고 다음 배치 진행 (남은 행은 스케줄러가 다시 처리)
+                        log.warn("{} 즉시 처리 배치 실패 (lastId={}): {}", status, lastId, e.getMessage());
+                    }
+
+                    batches++;
+                    processed += targets.size();
+                    succeeded += successes;
+                    failed += targets.size() - successes;
+                    saveDrainProgress(new PendingDrainProgressDto(true, startedAt, null, status, batches, processed, succeeded, failed, null));
+                }
+            }
+        } catch (Exception e) {
+            log.error("PENDING 즉시 처리 중단", e);
+            error = e.getMessage();
+        } finally {
+            saveDrainProgress(new PendingDrainProgressDto(false, startedAt, LocalDateTime.now(), null, batches, processed, succeeded, failed, error));
+            recordRun("drain", Duration.ofNanos(System.nanoTime() - startNanos).toMillis(), processed, succeeded);
+            refresh();
+            log.info("PENDING 즉시 처리 완료: 배치 {}회, 처리 {}개, 성공 {}개, 실패 {}개", batches, processed, succeeded, failed);
+        }
+    }
+}
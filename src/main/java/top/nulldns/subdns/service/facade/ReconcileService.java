@@ -0,0 +1,212 @@
+package top.nulldns.subdns.service.facade;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import top.nulldns.subdns.config.finalconfig.Action;
+import top.nulldns.subdns.config.finalconfig.Status;
+import top.nulldns.subdns.dto.PDNSDto;
+import top.nulldns.subdns.dto.ReconcileReportDto;
+import top.nulldns.subdns.dto.RecordStateDto;
+import top.nulldns.subdns.service.domain.HaveSubDomainService;
+import top.nulldns.subdns.util.ServedRecordUtil;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * DB(have_sub_domain) 와 PowerDNS 간 레코드 불일치 검사 및 동기화
+ * PDNS rrset 은 스트리밍으로 읽어 (이름, 타입) 순 정렬, DB 는 같은 순서로 스트리밍 조회 후 merge-join
+ * DB 가 기준 - 불일치 시 DB 값으로 REPLACE, PDNS 에만 있는 레코드는 deleteOrphans 일 때만 DELETE
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReconcileService {
+    private final PDNSService pdnsService;
+    private final HaveSubDomainService haveSubDomainService;
+
+    private static final int MAX_CONCURRENT_ZONES = 4;
+    private static final int MAX_DIFFS_PER_ZONE = 100;
+    private static final Set<String> MANAGED_TYPES = Set.of("A", "AAAA", "CNAME", "TXT");
+    private static final Comparator<ServedEntry> ENTRY_ORDER =
+            Comparator.comparing(ServedEntry::name).thenComparing(ServedEntry::type);
+
+    @Getter
+    private volatile ReconcileReportDto lastReport;
+
+    /**
+     * @param zones         검사할 존 목록
+     * @param dryRun        true 면 차이만 보고하고 반영하지 않음
+     * @param deleteOrphans PDNS 에만 있는 레코드 삭제 여부
+     */
+    public ReconcileReportDto reconcile(Collection<String> zones, boolean dryRun, boolean deleteOrphans) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Semaphore permits = new Semaphore(MAX_CONCURRENT_ZONES);
+
+        Map<String, Future<ReconcileReportDto.ZoneResult>> futures = new TreeMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String zone : zones) {
+                futures.put(zone, executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return reconcileZone(zone, dryRun, deleteOrphans);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+
+        List<ReconcileReportDto.ZoneResult> results = new ArrayList<>();
+        for (Map.Entry<String, Future<ReconcileReportDto.ZoneResult>> entry : futures.entrySet()) {
+            try {
+                results.add(entry.getValue().get());
+            } catch (ExecutionException e) {
+                log.error("존 {} 정합성 검사 실패", entry.getKey(), e.getCause());
+                results.add(failed(entry.getKey(), e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(failed(entry.getKey(), e));
+            }
+        }
+
+        ReconcileReportDto report = new ReconcileReportDto(startedAt, LocalDateTime.now(), dryRun, deleteOrphans, results);
+        lastReport = report;
+        return report;
+    }
+
+    private ReconcileReportDto.ZoneResult reconcileZone(String zone, boolean dryRun, boolean deleteOrphans) {
+        // 1. PDNS 측 - 관리 대상 타입만, (이름, 타입) 순 정렬
+        List<ServedEntry> served = new ArrayList<>();
+        pdnsService.forEachServedRrset(zone, rrset -> {
+            if (!MANAGED_TYPES.contains(rrset.type())) {
+                return;
+            }
+            List<String> contents = new ArrayList<>();
+            if (rrset.records() != null) {
+                rrset.records().stream().filter(r -> !r.disabled()).forEach(r -> contents.add(r.content()));
+            }
+            served.add(new ServedEntry(ServedRecordUtil.toFullDomain(rrset.name()), rrset.type(), contents));
+        });
+        served.sort(ENTRY_ORDER);
+
+        // 2. DB 측 스트리밍 + merge-join
+        ZoneDiff diff = new ZoneDiff(zone, deleteOrphans);
+        int[] cursor = {0};
+        ServedEntry[] previous = {null};
+
+        haveSubDomainService.forEachRecordStateInZone(zone, state -> {
+            ServedEntry dbKey = new ServedEntry(state.fullDomain(), state.recordType(), List.of());
+            if (previous[0] != null && ENTRY_ORDER.compare(previous[0], dbKey) > 0) {
+                throw new IllegalStateException("DB 정렬 순서가 비교 순서와 다름: " + state.fullDomain());
+            }
+            previous[0] = dbKey;
+            diff.dbRecords++;
+
+            while (cursor[0] < served.size() && ENTRY_ORDER.compare(served.get(cursor[0]), dbKey) < 0) {
+                diff.orphan(served.get(cursor[0]++));
+            }
+
+            ServedEntry match = null;
+            if (cursor[0] < served.size() && ENTRY_ORDER.compare(served.get(cursor[0]), dbKey) == 0) {
+                match = served.get(cursor[0]++);
+            }
+            diff.compare(state, match);
+        });
+
+        while (cursor[0] < served.size()) {
+            diff.orphan(served.get(cursor[0]++));
+        }
+
+        // 3. 반영
+        boolean applied = false;
+        if (!dryRun && !diff.changes.isEmpty()) {
+            pdnsService.applyRrsets(zone, diff.changes);
+            applied = true;
+            log.info("존 {} 정합성 동기화 완료: REPLACE {}개, DELETE {}개", zone, diff.missing + diff.mismatched,
+                    deleteOrphans ? diff.orphaned : 0);
+        }
+
+        return new ReconcileReportDto.ZoneResult(zone, diff.dbRecords, served.size(), diff.pending,
+                diff.missing, diff.mismatched, diff.orphaned, applied, null, diff.diffs);
+    }
+
+    private ReconcileReportDto.ZoneResult failed(String zone, Throwable cause) {
+        return new ReconcileReportDto.ZoneResult(zone, 0, 0, 0, 0, 0, 0, false, String.valueOf(cause.getMessage()), List.of());
+    }
+
+    private record ServedEntry(String name, String type, List<String> contents) { }
+
+    /**
+     * 존 단위 비교 결과 누적
+     */
+    private static class ZoneDiff {
+        private final String zone;
+        private final boolean deleteOrphans;
+        private final List<PDNSDto.Rrset> changes = new ArrayList<>();
+        private final List<ReconcileReportDto.Diff> diffs = new ArrayList<>();
+        private long dbRecords, pending, missing, mismatched, orphaned;
+
+        private ZoneDiff(String zone, boolean deleteOrphans) {
+            this.zone = zone;
+            this.deleteOrphans = deleteOrphans;
+        }
+
+        private void compare(RecordStateDto state, ServedEntry match) {
+            // PENDING 행은 스케줄러가 처리 - 비교 제외
+            if (state.domainStatus() != Status.ACTIVE) {
+                pending++;
+                return;
+            }
+
+            if (match == null) {
+                missing++;
+                replace(state);
+                addDiff("MISSING", state.fullDomain(), state.recordType(), state.content(), null);
+            } else if (!ServedRecordUtil.sameContent(state.recordType(), state.content(), match.contents())) {
+                mismatched++;
+                replace(state);
+                addDiff("MISMATCH", state.fullDomain(), state.recordType(), state.content(), String.join(" | ", match.contents()));
+            }
+        }
+
+        private void orphan(ServedEntry entry) {
+            // 존 apex 레코드, ACME 인증 레코드(AcmeService 에서 관리)는 DB 관리 대상이 아님
+            if (entry.name().equals(zone) || entry.name().startsWith(AcmeService.CHALLENGE_LABEL + ".")) {
+                return;
+            }
+            orphaned++;
+            addDiff("ORPHAN", entry.name(), entry.type(), null, String.join(" | ", entry.contents()));
+
+            if (deleteOrphans) {
+                changes.add(PDNSDto.Rrset.builder()
+                        .name(entry.name() + ".")
+                        .type(entry.type())
+                        .changeType(Action.DELETE.name())
+                        .build());
+            }
+        }
+
+        private void replace(RecordStateDto state) {
+            changes.add(PDNSDto.Rrset.builder()
+                    .name(state.fullDomain() + ".")
+                    .type(state.recordType())
+                    .changeType(Action.REPLACE.name())
+                    .records(List.of(PDNSDto.Record.builder().content(state.content()).build()))
+                    .build());
+        }
+
+        private void addDiff(String kind, String name, String type, String dbContent, String servedContent) {
+            if (diffs.size() < MAX_DIFFS_PER_ZONE) {
+                diffs.add(new ReconcileReportDto.Diff(kind, name, type, dbContent, servedContent));
+            }
+        }
+    }
+}
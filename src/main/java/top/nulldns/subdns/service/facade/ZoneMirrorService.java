@@ -0,0 +1,144 @@
+package top.nulldns.subdns.service.facade;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import top.nulldns.subdns.dao.HaveSubDomain;
+import top.nulldns.subdns.dto.RecordViewDto;
+import top.nulldns.subdns.service.domain.HaveSubDomainService;
+import top.nulldns.subdns.util.ServedRecordUtil;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PowerDNS 에서 실제 응답중인 rrset 의 존 단위 로컬 사본
+ * SOA serial 을 주기적으로 확인하고 바뀐 존만 다시 받아옴 (없으면 조회 시점에 받아옴)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ZoneMirrorService {
+    private final PDNSService pdnsService;
+    private final HaveSubDomainService haveSubDomainService;
+
+    private static final Set<String> MIRRORED_TYPES = Set.of("A", "AAAA", "CNAME", "TXT");
+
+    private final Map<String, ZoneSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * serial 확인 - 바뀐 존만 전체 조회
+     */
+    @Scheduled(fixedDelay = 30_000, initialDelay = 30_000)
+    public void pollSerials() {
+        Map<String, Long> serials;
+        try {
+            serials = pdnsService.getZoneSerials();
+        } catch (Exception e) {
+            log.warn("존 serial 조회 실패 - 기존 사본 유지: {}", e.getMessage());
+            return;
+        }
+
+        snapshots.keySet().retainAll(serials.keySet()); // 삭제된 존 정리
+
+        for (Map.Entry<String, Long> entry : serials.entrySet()) {
+            ZoneSnapshot current = snapshots.get(entry.getKey());
+            if (current != null && current.serial() == entry.getValue()) {
+                continue;
+            }
+            try {
+                snapshots.put(entry.getKey(), fetch(entry.getKey(), entry.getValue()));
+            } catch (Exception e) {
+                log.warn("존 {} 사본 갱신 실패: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 도메인의 레코드별 DB 값과 실제 응답 값
+     * @param fullDomain example.nulldns.top 등
+     */
+    public List<RecordViewDto> getRecordViews(String fullDomain) {
+        String zone = pdnsService.splitZoneAndSubDomain(fullDomain)[1];
+        ZoneSnapshot snapshot = readThrough(zone);
+
+        List<RecordViewDto> views = new ArrayList<>();
+        for (HaveSubDomain record : haveSubDomainService.getMemberSubDomainsByFullDomain(null, fullDomain)) {
+            List<String> served = snapshot == null ? null
+                    : snapshot.rrsets().getOrDefault(key(fullDomain, record.getRecordType()), List.of());
+
+            views.add(new RecordViewDto(
+                    fullDomain,
+                    record.getRecordType(),
+                    record.getContent(),
+                    record.getDomainStatus(),
+                    served == null ? null : String.join(" ", served),
+                    served != null && ServedRecordUtil.sameContent(record.getRecordType(), record.getContent(), served)
+            ));
+        }
+        return views;
+    }
+
+    /**
+     * 이미 받아온 사본 기준으로 실제 응답중인 이름인지 확인 (PDNS 호출 없음)
+     */
+    public boolean isServed(String zone, String fullDomain) {
+        ZoneSnapshot snapshot = snapshots.get(zone);
+        if (snapshot == null) {
+            return false;
+        }
+        for (String type : MIRRORED_TYPES) {
+            if (snapshot.rrsets().containsKey(key(fullDomain, type))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ZoneSnapshot readThrough(String zone) {
+        ZoneSnapshot snapshot = snapshots.get(zone);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        try {
+            Long serial = pdnsService.getZoneSerials().get(zone);
+            if (serial == null) {
+                return null;
+            }
+            snapshot = fetch(zone, serial);
+            snapshots.put(zone, snapshot);
+            return snapshot;
+        } catch (Exception e) {
+            log.warn("존 {} 사본 조회 실패: {}", zone, e.getMessage());
+            return null;
+        }
+    }
+
+    private ZoneSnapshot fetch(String zone, long serial) {
+        Map<String, List<String>> rrsets = new HashMap<>();
+        pdnsService.forEachServedRrset(zone, rrset -> {
+            if (!MIRRORED_TYPES.contains(rrset.type()) || rrset.records() == null) {
+                return;
+            }
+            List<String> contents = rrset.records().stream()
+                    .filter(r -> !r.disabled())
+                    .map(r -> r.content())
+                    .toList();
+            if (!contents.isEmpty()) {
+                rrsets.put(key(ServedRecordUtil.toFullDomain(rrset.name()), rrset.type()), contents);
+            }
+        });
+
+        log.debug("존 {} 사본 갱신 (serial={}, rrset {}개)", zone, serial, rrsets.size());
+        return new ZoneSnapshot(serial, Map.copyOf(rrsets), LocalDateTime.now());
+    }
+
+    private static String key(String fullDomain, String type) {
+        return fullDomain + "/" + type;
+    }
+
+    private record ZoneSnapshot(long serial, Map<String, List<String>> rrsets, LocalDateTime fetchedAt) { }
+}
@@ -1,20 +1,30 @@
 package top.nulldns.subdns.service.infra;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AllArgsConstructor;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import top.nulldns.subdns.common.jfr.LockAcquireEvent;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @AllArgsConstructor
 public class LockService {
     private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
 
     private static final String LOCK_KEY_PREFIX = "lock:";
     private static final Duration DEFAULT_TTL = Duration.ofSeconds(60);
+    private static final RedisScript<Long> EXTEND_SCRIPT = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
 
     public String lock(String key) {
         return lock(key, DEFAULT_TTL);
@@ -23,15 +33,42 @@ public class LockService {
     public String lock(String key, Duration ttl) {
         String value = UUID.randomUUID().toString();
 
+        LockAcquireEvent event = new LockAcquireEvent();
+        event.begin();
+        long start = System.nanoTime();
         Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + key, value, ttl);
+        boolean acquired = Boolean.TRUE.equals(locked);
 
-        if (!Boolean.TRUE.equals(locked)) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.keyClass = lockName(key);
+            event.acquired = acquired;
+            event.commit();
+        }
+
+        // 태그는 키 앞부분(pdns, acme, scheduler 등)만 사용 - 도메인별로 나누지 않음
+        Timer.builder("subdns.lock.acquire")
+                .tag("lock", lockName(key))
+                .tag("outcome", acquired ? "acquired" : "contended")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
             throw new ConcurrencyFailureException("해당 LOCK은 이미 작업중 ...");
         }
 
         return value;
     }
 
+    /**
+     * 락 만료 연장 - 아직 value 로 잡혀있을 때만 (확인과 연장을 한 번에)
+     * @return boolean 연장 여부 (false 면 이미 만료되어 다른 작업이 잡았을 수 있음)
+     */
+    public boolean extend(String key, String value, Duration ttl) {
+        Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(LOCK_KEY_PREFIX + key), value, String.valueOf(ttl.toMillis()));
+        return extended != null && extended == 1L;
+    }
+
     public void unlock(String key, String value) {
         String lockedValue = redisTemplate.opsForValue().get(LOCK_KEY_PREFIX + key);
 
@@ -39,4 +76,9 @@ public class LockService {
             redisTemplate.delete(LOCK_KEY_PREFIX + key);
         }
     }
+
+    private String lockName(String key) {
+        int separator = key.indexOf(':');
+        return separator < 0 ? key : key.substring(0, separator);
+    }
 }
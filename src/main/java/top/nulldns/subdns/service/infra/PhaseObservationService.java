@@ -0,0 +1,154 @@
+package top.nulldns.subdns.service.infra;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 작업 단계별 소요 시간 측정
+ * - Micrometer Observation 으로 기록 (subdns.operation / subdns.operation.phase 타이머, 트레이싱 브리지가 있으면 span)
+ * - 단계별 최근 1024건은 메모리에 보관해 관리자 통계에서 백분위 확인
+ *
+ * 사용법: begin() -> phase("lock") -> phase("pdns-patch") ... -> finally end()
+ * phase() 는 이전 단계를 끝내고 다음 단계를 시작함 (단계 이름은 코드에 고정된 값만 사용)
+ */
+@Service
+@RequiredArgsConstructor
+public class PhaseObservationService {
+    private final ObservationRegistry observationRegistry;
+
+    private static final String OPERATION_OBSERVATION = "subdns.operation";
+    private static final String PHASE_OBSERVATION = "subdns.operation.phase";
+    private static final int WINDOW_SIZE = 1024;    // 2의 제곱수
+
+    // operation -> phase -> 최근 기록
+    private final Map<String, Map<String, RollingWindow>> windows = new ConcurrentHashMap<>();
+
+    public Span begin(String operation) {
+        Observation observation = Observation.createNotStarted(OPERATION_OBSERVATION, observationRegistry)
+                .lowCardinalityKeyValue("operation", operation)
+                .start();
+        return new Span(operation, observation);
+    }
+
+    /**
+     * 단계별 최근 기록 요약 (ms)
+     * @return Map<operation, Map<phase, {count, p50, p95, p99, max}>>
+     */
+    public Map<String, Map<String, Map<String, Object>>> getSummary() {
+        Map<String, Map<String, Map<String, Object>>> summary = new TreeMap<>();
+        windows.forEach((operation, phases) -> {
+            Map<String, Map<String, Object>> phaseSummary = new LinkedHashMap<>();
+            phases.forEach((phase, window) -> phaseSummary.put(phase, window.summary()));
+            summary.put(operation, phaseSummary);
+        });
+        return summary;
+    }
+
+    private void record(String operation, String phase, long nanos) {
+        windows.computeIfAbsent(operation, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(phase, key -> new RollingWindow())
+                .record(nanos);
+    }
+
+    /**
+     * 작업 1회의 측정 상태 (한 스레드에서만 사용)
+     */
+    public class Span {
+        private final String operation;
+        private final Observation observation;
+        private final long startedAt = System.nanoTime();
+
+        private Observation currentPhase;
+        private String currentPhaseName;
+        private long phaseStartedAt;
+
+        private Span(String operation, Observation observation) {
+            this.operation = operation;
+            this.observation = observation;
+        }
+
+        public void phase(String name) {
+            stopPhase();
+            currentPhaseName = name;
+            phaseStartedAt = System.nanoTime();
+            currentPhase = Observation.createNotStarted(PHASE_OBSERVATION, observationRegistry)
+                    .parentObservation(observation)
+                    .lowCardinalityKeyValue("operation", operation)
+                    .lowCardinalityKeyValue("phase", name)
+                    .start();
+        }
+
+        public void error(Throwable throwable) {
+            if (currentPhase != null) {
+                currentPhase.error(throwable);
+            }
+            observation.error(throwable);
+        }
+
+        public void end() {
+            stopPhase();
+            observation.stop();
+            record(operation, "total", System.nanoTime() - startedAt);
+        }
+
+        private void stopPhase() {
+            if (currentPhase == null) {
+                return;
+            }
+            currentPhase.stop();
+            record(operation, currentPhaseName, System.nanoTime() - phaseStartedAt);
+            currentPhase = null;
+        }
+    }
+
+    // 최근 WINDOW_SIZE 건만 보관하는 링 버퍼 (기록은 락 없음)
+    private static class RollingWindow {
+        private final AtomicLongArray samples = new AtomicLongArray(WINDOW_SIZE);
+        private final AtomicLong count = new AtomicLong();
+
+        private void record(long nanos) {
+            samples.set((int) (count.getAndIncrement() & (WINDOW_SIZE - 1)), nanos);
+        }
+
+        private Map<String, Object> summary() {
+            long total = count.get();
+            int size = (int) Math.min(total, WINDOW_SIZE);
+
+            long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", total);
+            summary.put("p50", percentile(sorted, 0.50));
+            summary.put("p95", percentile(sorted, 0.95));
+            summary.put("p99", percentile(sorted, 0.99));
+            summary.put("max", size == 0 ? 0 : toMillis(sorted[size - 1]));
+            return summary;
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return toMillis(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+        }
+
+        private static double toMillis(long nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+}
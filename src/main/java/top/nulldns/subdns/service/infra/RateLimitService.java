@@ -0,0 +1,125 @@
+package top.nulldns.subdns.service.infra;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import top.nulldns.subdns.config.RateLimitProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 로컬 토큰 버킷 + Redis 주기 동기화
+ * 요청 처리 중에는 로컬 버킷만 확인하고, 동기화 때 각 노드의 사용량을 Redis 카운터에 합산해서
+ * 다른 노드에서 쓴 만큼 로컬 버킷에서 차감함 (동기화 주기만큼 늦게 반영됨)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitService {
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties rateLimitProperties;
+
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final long COUNTER_TTL_SECONDS = 600;
+    private static final long IDLE_EVICT_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final int MAX_BUCKETS = 200_000;
+    private static final String OVERFLOW_KEY = "overflow";  // 버킷 수 초과 시 엔드포인트 공용 버킷
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 1회 소비
+     * @param endpoint  available-domains, add-record 등
+     * @param clientKey m:{memberId} 또는 ip:{address}
+     * @return long     0 이면 허용, 아니면 재시도까지 남은 초
+     */
+    public long tryConsume(String endpoint, String clientKey) {
+        return tryConsume(endpoint, clientKey, 1);
+    }
+
+    /**
+     * permits 만큼 소비 (일괄 추가처럼 요청 하나가 여러 건을 처리하는 경우 항목 수 기준)
+     * 버킷 용량보다 큰 요청은 가득 찬 버킷 전체를 소비함
+     */
+    public long tryConsume(String endpoint, String clientKey, int permits) {
+        RateLimitProperties.Limit limit = rateLimitProperties.getEndpoints().get(endpoint);
+        if (!rateLimitProperties.isEnabled() || limit == null) {
+            return 0;
+        }
+
+        String key = endpoint + ":" + clientKey;
+        if (buckets.size() >= MAX_BUCKETS && !buckets.containsKey(key)) {
+            key = endpoint + ":" + OVERFLOW_KEY;
+        }
+
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerMinute(), now));
+        return bucket.tryConsume(now, permits);
+    }
+
+    /**
+     * 로컬 사용량을 Redis 에 합산하고 다른 노드 사용량을 반영 (파이프라인 1회)
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sync-interval-ms:2000}")
+    public void sync() {
+        long now = System.nanoTime();
+
+        List<String> keys = new ArrayList<>();
+        List<TokenBucket> targets = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+
+        for (Map.Entry<String, TokenBucket> entry : buckets.entrySet()) {
+            TokenBucket bucket = entry.getValue();
+            if (bucket.isIdle(now, IDLE_EVICT_NANOS)) {
+                buckets.remove(entry.getKey(), bucket);
+                continue;
+            }
+            keys.add(KEY_PREFIX + entry.getKey());
+            targets.add(bucket);
+            deltas.add(bucket.drainConsumed());
+        }
+
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < keys.size(); i++) {
+                    byte[] key = keys.get(i).getBytes(StandardCharsets.UTF_8);
+                    pipelineIncrement(connection, key, deltas.get(i));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.debug("요청 제한 동기화 실패 - 로컬 버킷만 사용: {}", e.getMessage());
+            for (int i = 0; i < targets.size(); i++) {
+                targets.get(i).restoreConsumed(deltas.get(i));
+            }
+            return;
+        }
+
+        // 결과는 (INCRBY, EXPIRE) 순서로 쌓임
+        for (int i = 0; i < targets.size(); i++) {
+            Object total = results.get(i * 2);
+            if (total instanceof Long t) {
+                targets.get(i).applyGlobalTotal(t, deltas.get(i), now);
+            }
+        }
+    }
+
+    private static void pipelineIncrement(RedisConnection connection, byte[] key, long delta) {
+        connection.stringCommands().incrBy(key, delta);
+        connection.keyCommands().expire(key, COUNTER_TTL_SECONDS);
+    }
+}
@@ -0,0 +1,59 @@
+package top.nulldns.subdns.service.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import top.nulldns.subdns.dao.HaveSubDomain;
+import top.nulldns.subdns.dto.RecordEventDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 레코드 상태 변경 이벤트를 Redis pub/sub 로 발행 (모든 노드의 SSE 구독자에게 전달됨)
+ * 발행 실패는 무시 - 이벤트는 알림 용도이고 상태의 기준은 DB
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecordEventPublisher {
+    public static final String CHANNEL = "record-events";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void publish(Long memberId, String fullDomain, String recordType, String kind) {
+        if (memberId == null) {
+            return;
+        }
+        this.publish(List.of(new RecordEventDto(memberId, fullDomain, recordType, kind, System.currentTimeMillis())));
+    }
+
+    /**
+     * 엔티티 목록 기준 발행 (회원 정보가 없는 엔티티는 제외) - 메시지 1개로 묶어서 발행
+     */
+    public void publish(List<HaveSubDomain> haveSubDomains, String kind) {
+        long now = System.currentTimeMillis();
+        List<RecordEventDto> events = new ArrayList<>();
+        for (HaveSubDomain haveSubDomain : haveSubDomains) {
+            if (haveSubDomain.getMember() == null) {
+                continue;
+            }
+            events.add(new RecordEventDto(haveSubDomain.getMemberId(), haveSubDomain.getFullDomain(), haveSubDomain.getRecordType(), kind, now));
+        }
+        this.publish(events);
+    }
+
+    public void publish(List<RecordEventDto> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(events));
+        } catch (Exception e) {
+            log.debug("레코드 이벤트 발행 실패: {}", e.getMessage());
+        }
+    }
+}
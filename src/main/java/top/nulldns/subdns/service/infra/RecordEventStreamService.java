@@ -0,0 +1,112 @@
+package top.nulldns.subdns.service.infra;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import top.nulldns.subdns.dto.RecordEventDto;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * 이 노드에 연결된 SSE 구독자 관리 - Redis 로 받은 이벤트를 해당 회원의 연결에만 전달
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecordEventStreamService {
+    private final ObjectMapper objectMapper;
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;   // 만료 시 브라우저 EventSource 가 자동 재연결
+    private static final int MAX_EMITTERS_PER_MEMBER = 10;
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long memberId) {
+        Set<SseEmitter> memberEmitters = emitters.computeIfAbsent(memberId, k -> new CopyOnWriteArraySet<>());
+        if (memberEmitters.size() >= MAX_EMITTERS_PER_MEMBER) {
+            throw new IllegalStateException("연결 수 초과");
+        }
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        memberEmitters.add(emitter);
+
+        Runnable remove = () -> this.remove(memberId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        try {
+            emitter.send(SseEmitter.event().name("connected").data("ok"));
+        } catch (IOException e) {
+            remove.run();
+        }
+        return emitter;
+    }
+
+    /**
+     * Redis 메시지 수신 (JSON 배열)
+     */
+    public void dispatch(byte[] message) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+
+        List<RecordEventDto> events;
+        try {
+            events = objectMapper.readValue(message, new TypeReference<List<RecordEventDto>>() {});
+        } catch (IOException e) {
+            log.warn("레코드 이벤트 파싱 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (RecordEventDto event : events) {
+            Set<SseEmitter> memberEmitters = emitters.get(event.memberId());
+            if (memberEmitters == null) {
+                continue;
+            }
+            for (SseEmitter emitter : memberEmitters) {
+                this.send(event.memberId(), emitter, SseEmitter.event().name("record").data(event));
+            }
+        }
+    }
+
+    /**
+     * 프록시 유휴 연결 종료 방지 + 끊어진 연결 정리
+     */
+    @Scheduled(fixedDelay = 25_000)
+    public void heartbeat() {
+        for (Map.Entry<Long, Set<SseEmitter>> entry : emitters.entrySet()) {
+            for (SseEmitter emitter : entry.getValue()) {
+                this.send(entry.getKey(), emitter, SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    public int getConnectionCount() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void send(Long memberId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (Exception e) {
+            this.remove(memberId, emitter);
+        }
+    }
+
+    private void remove(Long memberId, SseEmitter emitter) {
+        emitters.computeIfPresent(memberId, (k, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
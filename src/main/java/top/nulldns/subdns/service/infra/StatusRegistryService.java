@@ -4,6 +4,9 @@ import lombok.AllArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+
 @Service
 @AllArgsConstructor
 public class StatusRegistryService {
@@ -19,6 +22,11 @@ public class StatusRegistryService {
         this.redisTemplate.opsForValue().set(LOCK_KEY_PREFIX + variable, value);
     }
 
+    // 값을 갱신하던 서버가 종료되면 ttl 뒤에 사라짐
+    public void setStatus(String variable, String value, Duration ttl) {
+        this.redisTemplate.opsForValue().set(LOCK_KEY_PREFIX + variable, value, ttl);
+    }
+
     public String getStatus(String variable) {
         return this.redisTemplate.opsForValue().get(LOCK_KEY_PREFIX + variable);
     }
@@ -26,4 +34,17 @@ public class StatusRegistryService {
     public void increment(String variable) {
         this.redisTemplate.opsForValue().increment(LOCK_KEY_PREFIX + variable);
     }
+
+    /**
+     * 최근 maxSize 개만 유지하는 이력 (최신 값이 앞)
+     */
+    public void pushHistory(String variable, String value, int maxSize) {
+        this.redisTemplate.opsForList().leftPush(LOCK_KEY_PREFIX + variable, value);
+        this.redisTemplate.opsForList().trim(LOCK_KEY_PREFIX + variable, 0, maxSize - 1);
+    }
+
+    public List<String> getHistory(String variable) {
+        List<String> history = this.redisTemplate.opsForList().range(LOCK_KEY_PREFIX + variable, 0, -1);
+        return history == null ? List.of() : history;
+    }
 }
@@ -0,0 +1,75 @@
+package top.nulldns.subdns.service.infra;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimitService 의 노드 로컬 토큰 버킷 (시각은 호출측에서 System.nanoTime() 으로 넘김)
+ * 다른 노드 사용량 차감은 최대 -capacity 까지 (오래 막히지 않도록)
+ */
+class TokenBucket {
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefill;
+    private long lastAccess;
+    private long unsyncedConsumed;
+    private long lastSeenTotal = -1;
+
+    TokenBucket(int capacity, int refillPerMinute, long now) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefill = now;
+        this.lastAccess = now;
+    }
+
+    /**
+     * @return long 0 이면 허용, 아니면 재시도까지 남은 초 (최소 1)
+     */
+    synchronized long tryConsume(long now, int permits) {
+        refill(now);
+        lastAccess = now;
+
+        double need = Math.min(permits, capacity);
+        if (tokens >= need) {
+            tokens -= need;
+            unsyncedConsumed += (long) need;
+            return 0;
+        }
+
+        double waitNanos = (need - tokens) / refillPerNano;
+        return Math.max(1, (long) Math.ceil(waitNanos / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    synchronized long drainConsumed() {
+        long consumed = unsyncedConsumed;
+        unsyncedConsumed = 0;
+        return consumed;
+    }
+
+    synchronized void restoreConsumed(long consumed) {
+        unsyncedConsumed += consumed;
+    }
+
+    // total = 전체 노드 누적 사용량 - 직전 동기화 이후 다른 노드가 쓴 만큼 차감
+    synchronized void applyGlobalTotal(long total, long ownDelta, long now) {
+        if (lastSeenTotal >= 0) {
+            long others = total - ownDelta - lastSeenTotal;
+            if (others > 0) {   // 음수면 카운터 만료 후 재생성된 것
+                refill(now);
+                tokens = Math.max(tokens - others, -capacity);
+            }
+        }
+        lastSeenTotal = total;
+    }
+
+    synchronized boolean isIdle(long now, long idleNanos) {
+        return unsyncedConsumed == 0 && now - lastAccess > idleNanos;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+}
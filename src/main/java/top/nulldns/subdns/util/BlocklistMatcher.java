@@ -0,0 +1,209 @@
+package top.nulldns.subdns.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * 금지어 검사기 (생성 후 변경 불가 - 여러 스레드에서 락 없이 공유)
+ * - 정확히 일치: Set
+ * - 포함 금지어: Aho-Corasick 오토마톤 (라벨 1회 순회로 모든 금지어 검사)
+ * - 차단 CNAME 대상: 라벨을 뒤에서부터 비교하는 접미사 트라이 (github.io 는 x.github.io 만 차단, mygithub.io 는 허용)
+ */
+public final class BlocklistMatcher {
+    // 라벨에 올 수 있는 문자 (a-z, 0-9, '-') + 도메인 구분자 '.'
+    private static final int ALPHABET_SIZE = 38;
+    private static final int DOT = 37;
+
+    private final Set<String> exactWords;
+
+    private final int[][] containsTransitions;
+    private final boolean[] containsAccepts;
+
+    private final int[][] suffixTransitions;
+    private final boolean[] suffixAccepts;
+
+    private BlocklistMatcher(Set<String> exactWords, int[][] containsTransitions, boolean[] containsAccepts,
+                             int[][] suffixTransitions, boolean[] suffixAccepts) {
+        this.exactWords = exactWords;
+        this.containsTransitions = containsTransitions;
+        this.containsAccepts = containsAccepts;
+        this.suffixTransitions = suffixTransitions;
+        this.suffixAccepts = suffixAccepts;
+    }
+
+    /**
+     * @param exactWords        라벨 전체가 일치하면 차단
+     * @param containsWords     라벨에 포함되면 차단 (소문자, 라벨 문자 외의 문자가 있는 단어는 어떤 라벨과도 일치할 수 없으므로 무시)
+     * @param cnameTargets      이 도메인 또는 하위 도메인을 가리키는 CNAME 차단 (대소문자 무시)
+     */
+    public static BlocklistMatcher compile(Collection<String> exactWords, Collection<String> containsWords, Collection<String> cnameTargets) {
+        // 포함 금지어 - 트라이 구성 후 실패 링크로 완전한 전이표 생성
+        List<int[]> transitions = new ArrayList<>();
+        List<Boolean> accepts = new ArrayList<>();
+        transitions.add(newRow());
+        accepts.add(false);
+
+        for (String word : containsWords) {
+            if (word.isEmpty() || !isLabelWord(word)) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                int c = index(word.charAt(i));
+                if (transitions.get(state)[c] < 0) {
+                    transitions.get(state)[c] = transitions.size();
+                    transitions.add(newRow());
+                    accepts.add(false);
+                }
+                state = transitions.get(state)[c];
+            }
+            accepts.set(state, true);
+        }
+
+        int[] fail = new int[transitions.size()];
+        Queue<Integer> queue = new ArrayDeque<>();
+        int[] root = transitions.getFirst();
+        for (int c = 0; c < ALPHABET_SIZE; c++) {
+            if (root[c] < 0) {
+                root[c] = 0;
+            } else {
+                fail[root[c]] = 0;
+                queue.add(root[c]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            accepts.set(state, accepts.get(state) || accepts.get(fail[state]));
+            int[] row = transitions.get(state);
+            for (int c = 0; c < ALPHABET_SIZE; c++) {
+                if (row[c] < 0) {
+                    row[c] = transitions.get(fail[state])[c];
+                } else {
+                    fail[row[c]] = transitions.get(fail[state])[c];
+                    queue.add(row[c]);
+                }
+            }
+        }
+
+        // 차단 CNAME 대상 - 뒤에서부터 읽는 트라이
+        List<int[]> suffixes = new ArrayList<>();
+        List<Boolean> suffixEnds = new ArrayList<>();
+        suffixes.add(newRow());
+        suffixEnds.add(false);
+
+        for (String target : cnameTargets) {
+            String normalized = target.toLowerCase();
+            if (normalized.endsWith(".")) {
+                normalized = normalized.substring(0, normalized.length() - 1);
+            }
+            if (normalized.isEmpty() || !isDomainWord(normalized)) {
+                continue;
+            }
+            int state = 0;
+            for (int i = normalized.length() - 1; i >= 0; i--) {
+                int c = index(normalized.charAt(i));
+                if (suffixes.get(state)[c] < 0) {
+                    suffixes.get(state)[c] = suffixes.size();
+                    suffixes.add(newRow());
+                    suffixEnds.add(false);
+                }
+                state = suffixes.get(state)[c];
+            }
+            suffixEnds.set(state, true);
+        }
+
+        return new BlocklistMatcher(
+                Set.copyOf(exactWords),
+                transitions.toArray(new int[0][]),
+                toArray(accepts),
+                suffixes.toArray(new int[0][]),
+                toArray(suffixEnds)
+        );
+    }
+
+    public boolean isExactBlocked(String label) {
+        return exactWords.contains(label);
+    }
+
+    /**
+     * 포함 금지어 오토마톤 1단계 전이 (라벨 외 문자는 시작 상태로)
+     */
+    public int step(int state, char c) {
+        int idx = labelIndex(c);
+        return idx < 0 ? 0 : containsTransitions[state][idx];
+    }
+
+    public boolean isContainsMatch(int state) {
+        return containsAccepts[state];
+    }
+
+    /**
+     * CNAME 대상이 차단 도메인이거나 그 하위 도메인인지 (끝의 '.' 무시, 대소문자 무시)
+     */
+    public boolean isBlockedTarget(String domain) {
+        int end = domain.length();
+        if (end > 0 && domain.charAt(end - 1) == '.') {
+            end--;
+        }
+
+        int state = 0;
+        for (int i = end - 1; i >= 0; i--) {
+            int c = index(Character.toLowerCase(domain.charAt(i)));
+            if (c < 0) {
+                return false;
+            }
+            state = suffixTransitions[state][c];
+            if (state < 0) {
+                return false;
+            }
+            if (suffixAccepts[state] && (i == 0 || domain.charAt(i - 1) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int labelIndex(char c) {
+        if (c >= 'a' && c <= 'z') return c - 'a';
+        if (c >= '0' && c <= '9') return 26 + (c - '0');
+        if (c == '-') return 36;
+        return -1;
+    }
+
+    private static int index(char c) {
+        return c == '.' ? DOT : labelIndex(c);
+    }
+
+    private static boolean isLabelWord(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (labelIndex(word.charAt(i)) < 0) return false;
+        }
+        return true;
+    }
+
+    private static boolean isDomainWord(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (index(word.charAt(i)) < 0) return false;
+        }
+        return true;
+    }
+
+    private static int[] newRow() {
+        int[] row = new int[ALPHABET_SIZE];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static boolean[] toArray(List<Boolean> values) {
+        boolean[] array = new boolean[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+}
@@ -1,34 +1,30 @@
 package top.nulldns.subdns.util;
 
-import java.net.Inet6Address;
-import java.net.InetAddress;
 import java.util.Set;
-import java.util.regex.Pattern;
 
+/**
+ * 레코드 값 / 라벨 검증
+ * 정규식, DNS 조회 없이 문자열을 한 번씩만 순회하고 객체를 만들지 않음 (요청마다 호출되는 경로)
+ * 금지어는 BlocklistService 가 DB 에서 읽어 교체함 - 검증 중에는 volatile 읽기 1회 외에 동기화 없음
+ */
 public class PDNSRecordValidator {
 
-    private static final Pattern IPV4_PATTERN = Pattern.compile(
-            "^(([0-9]|[1-9][0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])\\.){3}([0-9]|[1-9][0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])$");
-    private static final Pattern DOMAIN_PATTERN = Pattern.compile(  // CNAME용
-            "^(?!-)(?!.*--)[A-Za-z0-9-]{1,63}(?<!-)(\\.[A-Za-z0-9-]{1,63})*\\.?$"
-    );
-    private static final Pattern LABEL_PATTERN = Pattern.compile(
-            "^(?!-)(?!.*--)[A-Za-z0-9-]{4,63}(?<!-)$"
-    );
-    private static final Pattern LABEL_PATTERN_ADMIN = Pattern.compile(
-            "^[A-Za-z0-9-]{1,63}$"
-    );
+    private static final int MIN_LABEL_LENGTH = 4;
+    private static final int MAX_LABEL_LENGTH = 63;
+    private static final int MAX_DOMAIN_LENGTH = 253;
+    private static final int MAX_TXT_LENGTH = 255;
+
     private static final Set<String> VALID_TYPES = Set.of(
             "A", "AAAA", "CNAME", "TXT"
             //"MX, "NS", "SOA", "PTR", "SRV", "CAA"
     );
-    private static final Set<String> EXACT_BLOCK_WORDS = Set.of(
+    public static final Set<String> DEFAULT_EXACT_BLOCK_WORDS = Set.of(
             // 기본 서비스
             "www", "api", "dns", "ns", "ns1", "ns2", "ns3", "ns4",
             "mx", "mail", "email", "smtp", "imap", "pop", "ftp", "sftp", "ssh",
             "dev", "stg", "prod", "test", "demo",
 
-            // 보안 및 인증 (중요)
+            // 보안 및 인증 (중요) - _acme-challenge 는 /api/acme 로만 등록 가능 (AcmeService)
             "_acme-challenge", "_domainconnect", "ssl", "cert", ".well-known",
             "auth", "login", "signin", "signup", "register", "password", "security", "verify",
 
@@ -47,18 +43,29 @@ public class PDNSRecordValidator {
             "legal", "terms", "privacy", "policy", "jobs", "contact",
             "service", "public", "private"
     );
-    private static final Set<String> CONTAINS_BLOCK_WORDS = Set.of(
+    public static final Set<String> DEFAULT_CONTAINS_BLOCK_WORDS = Set.of(
             "admin", "administrator", "root", "system", "sysadmin",
             "master", "webmaster", "hostmaster", "postmaster",
             "nulldns", "subdns", "official"
     );
-    private static final Set<String> BLOCKED_CNAME_TARGETS = Set.of(
+    public static final Set<String> DEFAULT_BLOCKED_CNAME_TARGETS = Set.of(
             "googlehosted.com", "verify.microsoft.com", "github.io", "gitlab.io",
             "awsapps.com", "acm-validations.aws", "pages.dev", "vercel-dns.com",
             "netlify.app", "herokuapp.com", "amazonses.com", "sendgrid.net",
             "mailgun.org", "firebaseapp.com", "supabase.co", "atlassian.net"
     );
 
+    // DB 금지어를 불러오기 전까지는 기본 금지어 사용
+    private static volatile BlocklistMatcher matcher = BlocklistMatcher.compile(
+            DEFAULT_EXACT_BLOCK_WORDS, DEFAULT_CONTAINS_BLOCK_WORDS, DEFAULT_BLOCKED_CNAME_TARGETS);
+
+    /**
+     * 금지어 교체 - 이미 진행중인 검증은 이전 검사기로 끝남
+     */
+    public static void applyBlocklist(BlocklistMatcher newMatcher) {
+        matcher = newMatcher;
+    }
+
     public static boolean isValidType(String type) {
         if (type == null || type.isEmpty()) {
             return false;
@@ -69,20 +76,40 @@ public class PDNSRecordValidator {
     }
 
     public static boolean isValidLabelAdmin(String label) {
-        if (label == null || label.isEmpty()) return false;
+        if (label == null || label.isEmpty() || label.length() > MAX_LABEL_LENGTH) return false;
 
-        return LABEL_PATTERN_ADMIN.matcher(label).matches();
+        for (int i = 0; i < label.length(); i++) {
+            if (!isLdh(label.charAt(i))) return false;
+        }
+        return true;
     }
 
+    /**
+     * 4~63자, 영문/숫자/하이픈, 하이픈으로 시작·끝 X, 연속 하이픈 X, 금지어 X
+     * 문자 검사와 포함 금지어 검사를 한 번의 순회로 처리
+     */
     public static boolean isValidLabel(String label) {
         if (label == null || label.isEmpty()) return false;
 
-        if (EXACT_BLOCK_WORDS.contains(label)) return false;
-        for (String banWord : CONTAINS_BLOCK_WORDS) {
-            if (label.contains(banWord)) return false;
-        }
+        int length = label.length();
+        if (length < MIN_LABEL_LENGTH || length > MAX_LABEL_LENGTH) return false;
+        if (label.charAt(0) == '-' || label.charAt(length - 1) == '-') return false;
+        BlocklistMatcher matcher = PDNSRecordValidator.matcher;
+        if (matcher.isExactBlocked(label)) return false;
 
-        return LABEL_PATTERN.matcher(label).matches();
+        int state = 0;
+        char previous = 0;
+        for (int i = 0; i < length; i++) {
+            char c = label.charAt(i);
+            if (!isLdh(c)) return false;
+            if (c == '-' && previous == '-') return false;
+
+            state = matcher.step(state, c);
+            if (matcher.isContainsMatch(state)) return false;
+
+            previous = c;
+        }
+        return true;
     }
 
 
@@ -106,32 +133,183 @@ public class PDNSRecordValidator {
         }
     }
 
+    /**
+     * 점으로 구분된 10진수 4개 (0~255, 0 이외에는 0으로 시작 X)
+     */
     public static boolean isIPv4(String ip) {
-        return IPV4_PATTERN.matcher(ip).matches();
+        return ip != null && isIPv4(ip, 0, ip.length());
     }
 
+    /**
+     * IPv6 텍스트 표기 (RFC 4291) - 주소 해석(DNS 조회) 없이 문자열만 검사
+     * 대괄호, zone id(%eth0) 표기는 레코드 값이 될 수 없으므로 허용하지 않음
+     * IPv4-mapped 주소(::ffff:1.2.3.4)는 IPv4 주소로 취급되어 기존과 같이 허용하지 않음
+     */
     public static boolean isIPv6(String ip) {
-        try {
-            if (!ip.contains(":")) return false;
+        if (ip == null) return false;
 
-            return InetAddress.getByName(ip) instanceof Inet6Address;
-        } catch (Exception e) {
-            return false;
+        int length = ip.length();
+        if (length < 2) return false;
+
+        int i = 0;
+        int groups = 0;
+        boolean compressed = false;
+
+        if (ip.charAt(0) == ':') {
+            if (ip.charAt(1) != ':') return false;
+            compressed = true;
+            i = 2;
+        }
+
+        while (i < length) {
+            int start = i;
+            while (i < length && i - start <= 4 && hexValue(ip.charAt(i)) >= 0) {
+                i++;
+            }
+
+            // 마지막 32비트를 IPv4 표기로 쓴 경우
+            if (i < length && ip.charAt(i) == '.') {
+                if (groups + 2 > 8 || !isIPv4(ip, start, length)) return false;
+                groups += 2;
+                i = length;
+                break;
+            }
+
+            int digits = i - start;
+            if (digits == 0 || digits > 4) return false;
+            groups++;
+
+            if (i == length) break;
+            if (ip.charAt(i) != ':') return false;
+            i++;
+
+            if (i < length && ip.charAt(i) == ':') {
+                if (compressed) return false;
+                compressed = true;
+                i++;
+            } else if (i == length) {
+                return false;   // 끝이 ':' 하나
+            }
         }
+
+        if (compressed ? groups > 7 : groups != 8) return false;
+
+        return !isIPv4Mapped(ip, groups);
     }
 
+    /**
+     * CNAME 대상 도메인
+     * 차단 대상은 해당 도메인과 그 하위 도메인만 차단 (예전처럼 문자열 포함 여부로 차단하지 않음)
+     */
     public static boolean isValidDomainName(String content) {
-        if (content.length() > 253) return false;
+        if (content.length() > MAX_DOMAIN_LENGTH) return false;
 
-        for (String domain : BLOCKED_CNAME_TARGETS) {
-            if (content.contains(domain)) return false;
-        }
+        if (matcher.isBlockedTarget(content)) return false;
 
-        return DOMAIN_PATTERN.matcher(content).matches();
+        return isDomainSyntax(content);
     }
 
     public static boolean isValidTxt(String txt) {
-        return txt.length() <= 255;
+        return txt.length() <= MAX_TXT_LENGTH;
     }
 
+    // 라벨 1~63자, 끝의 '.' 허용, 연속 하이픈 X, 첫 라벨은 하이픈으로 시작·끝 X
+    private static boolean isDomainSyntax(String content) {
+        int length = content.length();
+        if (length > 0 && content.charAt(length - 1) == '.') {
+            length--;
+        }
+        if (length == 0) return false;
+
+        int labelStart = 0;
+        boolean firstLabel = true;
+        char previous = 0;
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? content.charAt(i) : '.';
+
+            if (c == '.') {
+                int labelLength = i - labelStart;
+                if (labelLength < 1 || labelLength > MAX_LABEL_LENGTH) return false;
+                if (firstLabel && (content.charAt(labelStart) == '-' || content.charAt(i - 1) == '-')) return false;
+                firstLabel = false;
+                labelStart = i + 1;
+            } else {
+                if (!isLdh(c)) return false;
+                if (c == '-' && previous == '-') return false;
+            }
+            previous = c;
+        }
+        return true;
+    }
+
+    private static boolean isIPv4(String ip, int from, int to) {
+        int i = from;
+        for (int octet = 0; octet < 4; octet++) {
+            if (octet > 0) {
+                if (i >= to || ip.charAt(i) != '.') return false;
+                i++;
+            }
+
+            int start = i;
+            int value = 0;
+            while (i < to && i - start < 3 && isDigit(ip.charAt(i))) {
+                value = value * 10 + (ip.charAt(i) - '0');
+                i++;
+            }
+
+            int digits = i - start;
+            if (digits == 0 || value > 255) return false;
+            if (digits > 1 && ip.charAt(start) == '0') return false;
+        }
+        return i == to;
+    }
+
+    // 이미 형식 검사를 통과한 IPv6 에서 앞 80비트가 0, 다음 16비트가 ffff 인지
+    private static boolean isIPv4Mapped(String ip, int groups) {
+        int length = ip.length();
+        int index = 0;
+        int i = 0;
+
+        if (ip.startsWith("::")) {
+            index = 8 - groups;
+            i = 2;
+        }
+
+        while (i < length && index <= 5) {
+            int value = 0;
+            while (i < length && ip.charAt(i) != ':') {
+                int hex = hexValue(ip.charAt(i));
+                if (hex < 0) return false;  // IPv4 표기 부분 (index 6 이상)
+                value = value * 16 + hex;
+                i++;
+            }
+
+            if (index == 5) return value == 0xffff;
+            if (value != 0) return false;
+            index++;
+
+            if (i >= length) break;
+            i++;
+            if (i < length && ip.charAt(i) == ':') {
+                index += 8 - groups;
+                i++;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLdh(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '-';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
 }
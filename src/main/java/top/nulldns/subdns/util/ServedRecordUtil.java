@@ -0,0 +1,29 @@
+package top.nulldns.subdns.util;
+
+import java.util.List;
+
+/**
+ * PDNS 가 응답중인 rrset 과 DB 레코드 비교 (ReconcileService, ZoneMirrorService 공용)
+ */
+public class ServedRecordUtil {
+
+    /**
+     * PDNS rrset 이름을 DB 형식으로 (소문자, 끝의 '.' 제거)
+     */
+    public static String toFullDomain(String rrsetName) {
+        String lower = rrsetName.toLowerCase();
+        return lower.endsWith(".") ? lower.substring(0, lower.length() - 1) : lower;
+    }
+
+    /**
+     * DB 값 하나가 그대로 응답중인지
+     * TXT 는 대소문자 구분, 나머지(IP, 도메인)는 구분하지 않음
+     */
+    public static boolean sameContent(String type, String dbContent, List<String> servedContents) {
+        if (servedContents.size() != 1) {
+            return false;
+        }
+        String served = servedContents.getFirst();
+        return type.equals("TXT") ? served.equals(dbContent) : served.equalsIgnoreCase(dbContent);
+    }
+}
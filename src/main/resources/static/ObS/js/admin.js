@@ -75,6 +75,8 @@ function showTab(tabName) {
 
     if (tabName === 'zones') loadZones();
     if (tabName === 'domains') searchDomains();
+    if (tabName === 'blocklist') loadBlocklist();
+    if (tabName === 'pending') loadPendingBacklog();
 }
 
 // --- User Management ---
@@ -325,6 +327,8 @@ async function loadZones() {
                     <span class="admin-item-title">${z.name}</span>
                 </div>
                 <div class="admin-item-actions">
+                    <button class="btn-admin" onclick="reconcileZone('${z.name}', true)">정합성 검사</button>
+                    <button class="btn-admin" onclick="reconcileZone('${z.name}', false)">동기화</button>
                     <button class="btn-admin btn-cancel" onclick="deleteZone('${z.name}')">존 삭제</button>
                 </div>
             `;
@@ -361,3 +365,198 @@ async function deleteZone(zone) {
         }
     });
 }
+
+// --- Blocklist Management ---
+const blockedKindLabels = { EXACT: '라벨 일치', CONTAINS: '라벨 포함', CNAME_TARGET: 'CNAME 대상' };
+
+async function loadBlocklist() {
+    const list = document.getElementById('blockedWordList');
+    list.innerHTML = '<p class="msg">로딩 중...</p>';
+    try {
+        const words = await apiFetch('/admin/blocklist');
+        list.innerHTML = '';
+        words.forEach(w => {
+            const item = document.createElement('div');
+            item.className = 'admin-item';
+            item.innerHTML = `
+                <div class="admin-item-header">
+                    <span class="admin-item-title">${w.word}</span>
+                    <span style="font-size: 0.8rem; color: #666;">${blockedKindLabels[w.kind] ?? w.kind}</span>
+                </div>
+                <div class="admin-item-actions">
+                    <button class="btn-admin btn-cancel" onclick="deleteBlockedWord(${w.id}, '${w.word}')">삭제</button>
+                </div>
+            `;
+            list.appendChild(item);
+        });
+    } catch (e) {
+        list.innerHTML = '<p class="msg">데이터를 가져오는데 실패했습니다.</p>';
+    }
+}
+
+async function addBlockedWord() {
+    const kind = document.getElementById('blockedKindSelect').value;
+    const word = document.getElementById('blockedWordInput').value.trim();
+    if (!word) return;
+    try {
+        const params = new URLSearchParams({ kind, word });
+        await apiFetch(`/admin/blocklist?${params}`, { method: 'POST' });
+        document.getElementById('blockedWordInput').value = '';
+        loadBlocklist();
+    } catch (e) {}
+}
+
+async function deleteBlockedWord(id, word) {
+    openModal({
+        title: '금지어 삭제',
+        message: `'${word}' 금지어를 삭제하시겠습니까? 모든 서버에 바로 적용됩니다.`,
+        onConfirm: async () => {
+            try {
+                await apiFetch(`/admin/blocklist/${id}`, { method: 'DELETE' });
+                loadBlocklist();
+            } catch (e) {}
+        }
+    });
+}
+
+// --- Pending Backlog ---
+const pendingStatusLabels = { ADD_PENDING: '추가 대기', UPDATE_PENDING: '수정 대기', DELETE_PENDING: '삭제 대기' };
+let drainPollTimer = null;
+
+function formatAge(seconds) {
+    if (seconds == null) return '-';
+    if (seconds < 60) return `${seconds}초`;
+    if (seconds < 3600) return `${Math.floor(seconds / 60)}분`;
+    return `${Math.floor(seconds / 3600)}시간 ${Math.floor((seconds % 3600) / 60)}분`;
+}
+
+async function loadPendingBacklog() {
+    const summary = document.getElementById('pendingSummary');
+    summary.innerHTML = '<p class="msg">로딩 중...</p>';
+    try {
+        const data = await apiFetch('/admin/pending');
+        summary.innerHTML = `<h4 style="margin: 10px 0 5px 0;">대기 현황 (분당 ${data.successesPerMinute.toFixed(1)}개 반영)</h4>`;
+        Object.keys(pendingStatusLabels).forEach(status => {
+            const item = document.createElement('div');
+            item.className = 'admin-item';
+            item.innerHTML = `
+                <div class="admin-item-header">
+                    <span class="admin-item-title">${pendingStatusLabels[status]}</span>
+                    <span style="font-size: 0.8rem; color: #666;">${data.counts[status] ?? 0}개 | 최장 대기 ${formatAge(data.oldestPendingSeconds[status])}</span>
+                </div>
+            `;
+            summary.appendChild(item);
+        });
+
+        const runs = document.getElementById('pendingRuns');
+        runs.innerHTML = '<h4 style="margin: 10px 0 5px 0;">최근 실행</h4>';
+        data.recentRuns.slice(0, 10).forEach(r => {
+            const item = document.createElement('div');
+            item.style.fontSize = '0.8rem';
+            item.innerText = `${r.finishedAt} [${r.job}] ${r.successes}/${r.rows}개 반영 (${r.durationMs}ms)`;
+            runs.appendChild(item);
+        });
+
+        const stale = document.getElementById('pendingStaleRows');
+        stale.innerHTML = `<h4 style="margin: 10px 0 5px 0;">오래 남은 행 (${data.staleRows.length}개)</h4>`;
+        data.staleRows.forEach(row => {
+            const item = document.createElement('div');
+            item.style.fontSize = '0.8rem';
+            item.innerText = `${row.fullDomain} (${row.recordType}) ${pendingStatusLabels[row.status] ?? row.status} - ${row.statusChangedAt}부터`;
+            stale.appendChild(item);
+        });
+
+        renderDrainProgress(data.drain);
+    } catch (e) {
+        summary.innerHTML = '<p class="msg">데이터를 가져오는데 실패했습니다.</p>';
+    }
+}
+
+async function drainPending() {
+    const status = document.getElementById('drainStatusSelect').value;
+    try {
+        const params = status ? `?${new URLSearchParams({ status })}` : '';
+        const progress = await apiFetch(`/admin/pending/drain${params}`, { method: 'POST' });
+        renderDrainProgress(progress);
+    } catch (e) {}
+}
+
+// 진행 중이면 2초마다 진행 상황 갱신 (로딩 화면 없이)
+function renderDrainProgress(progress) {
+    const container = document.getElementById('drainProgress');
+    if (!progress || !progress.startedAt) {
+        container.innerHTML = '';
+        return;
+    }
+
+    const state = progress.running
+        ? `진행 중 (${pendingStatusLabels[progress.currentStatus] ?? '-'})`
+        : `완료 ${progress.finishedAt}${progress.error ? ` - 에러: ${progress.error}` : ''}`;
+    container.innerHTML = `
+        <div class="admin-item">
+            <div class="admin-item-header">
+                <span class="admin-item-title">즉시 처리 ${state}</span>
+            </div>
+            <div style="font-size: 0.85rem;">배치 ${progress.batches}회 | 처리 ${progress.processed} | 성공 ${progress.succeeded} | 실패 ${progress.failed}</div>
+        </div>
+    `;
+
+    clearTimeout(drainPollTimer);
+    if (progress.running) {
+        drainPollTimer = setTimeout(async () => {
+            const response = await fetch('/admin/pending/drain');
+            if (!response.ok) return;
+            const next = await response.json();
+            renderDrainProgress(next);
+            if (!next.running) loadPendingBacklog();
+        }, 2000);
+    }
+}
+
+// --- Reconcile (DB <-> PowerDNS) ---
+async function reconcileZone(zone, dryRun) {
+    const run = async (deleteOrphans) => {
+        const params = new URLSearchParams({ dryRun, deleteOrphans });
+        if (zone) params.append('zone', zone);
+        try {
+            const report = await apiFetch(`/admin/reconcile?${params}`, { method: 'POST' });
+            renderReconcileReport(report);
+        } catch (e) {}
+    };
+
+    if (dryRun) {
+        run(false);
+        return;
+    }
+
+    openModal({
+        title: '정합성 동기화',
+        message: `'${zone}' 존을 DB 기준으로 동기화합니다. PDNS 에만 있는 레코드까지 삭제하려면 'ORPHAN'을 입력하세요.`,
+        inputPlaceholder: '(선택) ORPHAN',
+        onConfirm: (code) => run(code === 'ORPHAN')
+    });
+}
+
+function renderReconcileReport(report) {
+    const container = document.getElementById('reconcileReport');
+    container.innerHTML = `<h4 style="margin: 10px 0 5px 0;">정합성 검사 결과 ${report.dryRun ? '(검사만)' : '(반영)'} - ${report.finishedAt}</h4>`;
+
+    report.zones.forEach(z => {
+        const item = document.createElement('div');
+        item.className = 'admin-item';
+        const summary = z.error
+            ? `<span style="color: #e74c3c;">에러: ${z.error}</span>`
+            : `DB ${z.dbRecords} / PDNS ${z.servedRrsets} | 대기 ${z.pending} | 누락 ${z.missing} | 불일치 ${z.mismatched} | PDNS 전용 ${z.orphaned}${z.applied ? ' | 반영됨' : ''}`;
+        const diffs = z.diffs.map(d =>
+            `<div style="font-size: 0.75rem; color: #666;">[${d.kind}] ${d.name} (${d.type}) DB: ${d.dbContent ?? '-'} / PDNS: ${d.servedContent ?? '-'}</div>`
+        ).join('');
+        item.innerHTML = `
+            <div class="admin-item-header">
+                <span class="admin-item-title">${z.zone}</span>
+            </div>
+            <div style="font-size: 0.85rem; margin-bottom: 0.3rem;">${summary}</div>
+            ${diffs}
+        `;
+        container.appendChild(item);
+    });
+}
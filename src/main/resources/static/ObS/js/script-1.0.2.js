@@ -1,4 +1,6 @@
 let recordMap = {};
+let statusMap = {};
+let recordEventSource = null;
 let selectedDomain = '';
 let selectedZone = '';
 
@@ -98,12 +100,15 @@ async function openDomainDetail(subDomain, zone, isNew) {
     const recordList = await response.json();
 
     recordMap = {};
+    statusMap = {};
     for (const record of recordList) {
       recordMap[record.type] = record.content;
+      statusMap[record.type] = record.live ? 'ACTIVE' : (record.status || 'ACTIVE');
     }
 
     applyRecordToInput();
     updateInputFields();
+    subscribeRecordEvents(fullDomain);
   } catch (err) {
     alert("도메인 정보를 불러오는 중 오류가 발생했습니다.");
     location.href = '/domains';
@@ -126,6 +131,43 @@ function applyRecordToInput() {
   } else {
     recordValueInput.value = "";
   }
+  renderRecordStatus();
+}
+
+// 레코드 반영 상태 표시
+function renderRecordStatus() {
+  const statusEl = document.getElementById('recordStatus');
+  const recordTypeInput = document.getElementById('recordType');
+  if (!statusEl || !recordTypeInput) return;
+
+  const labels = {
+    'ACTIVE': '반영 완료',
+    'ADD_PENDING': '반영 대기중',
+    'UPDATE_PENDING': '반영 대기중',
+    'PENDING': '반영 대기중',
+    'FAILED': '반영 지연 (자동 재시도 예정)',
+    'DELETE_PENDING': '삭제 대기중',
+    'DELETED': '삭제됨'
+  };
+  const status = statusMap[recordTypeInput.value];
+  statusEl.textContent = status ? (labels[status] || status) : '';
+}
+
+// 레코드 상태 변경 구독 (SSE) - 폴링 없이 반영 완료 시점 확인
+function subscribeRecordEvents(fullDomain) {
+  if (!window.EventSource || recordEventSource) return;
+
+  recordEventSource = new EventSource('/api/record-events');
+  recordEventSource.addEventListener('record', (e) => {
+    const event = JSON.parse(e.data);
+    if (event.fullDomain !== fullDomain) return;
+
+    if (event.kind === 'DELETED') {
+      delete recordMap[event.recordType];
+    }
+    statusMap[event.recordType] = event.kind;
+    renderRecordStatus();
+  });
 }
 
 // placeholder 처리
@@ -0,0 +1,141 @@
+package top.nulldns.subdns.service.infra;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 토큰 버킷 충전/소진/다른 노드 사용량 차감 경계 확인 (용량 10, 분당 10 -> 6초에 1개)
+ */
+class TokenBucketTest {
+    private static final long SECOND = 1_000_000_000L;
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    void startsFullAndRejectsWhenEmpty() {
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, bucket.tryConsume(0, 1));
+        }
+        assertEquals(6, bucket.tryConsume(0, 1));
+        assertEquals(3, bucket.tryConsume(3 * SECOND, 1));
+    }
+
+    @Test
+    void refillsOverTime() {
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+        drain(bucket, 0);
+
+        assertEquals(0, bucket.tryConsume(6 * SECOND + MILLI, 1));
+        assertEquals(6, bucket.tryConsume(6 * SECOND + MILLI, 1));
+    }
+
+    @Test
+    void refillNeverExceedsCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+        bucket.tryConsume(0, 1);
+
+        assertEquals(10, drain(bucket, 600 * SECOND));
+    }
+
+    @Test
+    void consumesPermitsAtOnce() {
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+
+        assertEquals(0, bucket.tryConsume(0, 4));
+        assertEquals(6, bucket.tryConsume(0, 7));     // 6개 남음 - 거절된 요청은 소비하지 않음
+        assertEquals(0, bucket.tryConsume(0, 6));
+        assertEquals(10, bucket.drainConsumed());
+    }
+
+    @Test
+    void oversizedRequestTakesWholeBucket() {
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+
+        assertEquals(0, bucket.tryConsume(0, 500));
+        assertEquals(60, bucket.tryConsume(0, 500));  // 다시 가득 찰 때까지
+        assertEquals(10, bucket.drainConsumed());
+    }
+
+    @Test
+    void drainAndRestoreConsumed() {
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+        bucket.tryConsume(0, 2);
+
+        long consumed = bucket.drainConsumed();
+        assertEquals(2, consumed);
+        assertEquals(0, bucket.drainConsumed());
+
+        bucket.restoreConsumed(consumed);    // Redis 동기화 실패 시 다음 동기화로 넘김
+        assertEquals(2, bucket.drainConsumed());
+    }
+
+    @Test
+    void firstGlobalTotalIsOnlyBaseline() {
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+        bucket.applyGlobalTotal(100, 0, 0);
+
+        assertEquals(10, drain(bucket, 0));
+    }
+
+    @Test
+    void deductsOtherNodesUsage() {
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+        bucket.applyGlobalTotal(100, 0, 0);
+        bucket.applyGlobalTotal(104, 0, 0);
+
+        assertEquals(6, drain(bucket, 0));
+    }
+
+    @Test
+    void ownDeltaIsNotDeductedTwice() {
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+        bucket.tryConsume(0, 3);
+        bucket.applyGlobalTotal(50, 0, 0);
+        bucket.applyGlobalTotal(53, bucket.drainConsumed(), 0);
+
+        assertEquals(7, drain(bucket, 0));
+    }
+
+    @Test
+    void deductionIsFlooredAtMinusCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+        bucket.applyGlobalTotal(100, 0, 0);
+        bucket.applyGlobalTotal(1_100, 0, 0);
+
+        assertEquals(66, bucket.tryConsume(0, 1));    // -10 -> 1 까지 11개 충전
+        assertEquals(0, bucket.tryConsume(66 * SECOND + MILLI, 1));
+    }
+
+    @Test
+    void ignoresCounterReset() {
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+        bucket.applyGlobalTotal(100, 0, 0);
+        bucket.applyGlobalTotal(5, 0, 0);     // 카운터 만료 후 재생성
+
+        assertEquals(10, drain(bucket, 0));
+    }
+
+    @Test
+    void idleOnlyWithoutUnsyncedUsage() {
+        long idle = 600 * SECOND;
+        TokenBucket bucket = new TokenBucket(10, 10, 0);
+
+        assertFalse(bucket.isIdle(599 * SECOND, idle));
+        assertTrue(bucket.isIdle(601 * SECOND, idle));
+
+        bucket.tryConsume(0, 1);
+        assertFalse(bucket.isIdle(601 * SECOND, idle));
+    }
+
+    private static int drain(TokenBucket bucket, long now) {
+        int allowed = 0;
+        while (bucket.tryConsume(now, 1) == 0) {
+            allowed++;
+        }
+        return allowed;
+    }
+}
@@ -0,0 +1,106 @@
+package top.nulldns.subdns.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 금지어 오토마톤, CNAME 접미사 트라이 경계 확인
+ */
+class BlocklistMatcherTest {
+
+    @Test
+    void blocksTargetAndSubdomainsOnly() {
+        BlocklistMatcher matcher = BlocklistMatcher.compile(Set.of(), List.of(), List.of("github.io"));
+
+        assertTrue(matcher.isBlockedTarget("github.io"));
+        assertTrue(matcher.isBlockedTarget("x.github.io"));
+        assertTrue(matcher.isBlockedTarget("a.b.github.io"));
+
+        assertFalse(matcher.isBlockedTarget("mygithub.io"));
+        assertFalse(matcher.isBlockedTarget("x-github.io"));
+        assertFalse(matcher.isBlockedTarget("hub.io"));
+        assertFalse(matcher.isBlockedTarget("io"));
+        assertFalse(matcher.isBlockedTarget("github.io.evil.com"));
+    }
+
+    @Test
+    void targetIgnoresCaseAndTrailingDot() {
+        BlocklistMatcher matcher = BlocklistMatcher.compile(Set.of(), List.of(), List.of("Pages.Dev."));
+
+        assertTrue(matcher.isBlockedTarget("pages.dev"));
+        assertTrue(matcher.isBlockedTarget("X.PAGES.DEV."));
+        assertFalse(matcher.isBlockedTarget("xpages.dev"));
+    }
+
+    @Test
+    void skipsTargetsWithInvalidCharacters() {
+        BlocklistMatcher matcher = BlocklistMatcher.compile(Set.of(), List.of(), List.of("foo_bar.com", ""));
+
+        assertFalse(matcher.isBlockedTarget("foo_bar.com"));
+        assertFalse(matcher.isBlockedTarget("x.foo_bar.com"));
+        assertFalse(matcher.isBlockedTarget("a.com"));
+    }
+
+    @Test
+    void matchesContainedWords() {
+        BlocklistMatcher matcher = BlocklistMatcher.compile(Set.of(), List.of("admin", "root"), List.of());
+
+        assertTrue(contains(matcher, "admin"));
+        assertTrue(contains(matcher, "myadmin"));
+        assertTrue(contains(matcher, "xrootx"));
+
+        assertFalse(contains(matcher, "roo"));
+        assertFalse(contains(matcher, "adm1n"));
+    }
+
+    @Test
+    void followsFailureLinks() {
+        BlocklistMatcher matcher = BlocklistMatcher.compile(Set.of(), List.of("abcd", "bce"), List.of());
+
+        assertTrue(contains(matcher, "abce"));     // abc 에서 d 가 아니면 bc 로 넘어가서 bce 일치
+        assertTrue(contains(matcher, "ababcd"));
+        assertFalse(contains(matcher, "abcbd"));
+    }
+
+    @Test
+    void nonLabelCharacterResetsMatch() {
+        BlocklistMatcher matcher = BlocklistMatcher.compile(Set.of(), List.of("admin"), List.of());
+
+        assertFalse(contains(matcher, "ad_min"));
+        assertFalse(contains(matcher, "ad.min"));
+        assertFalse(contains(matcher, "adMIN"));   // 호출측에서 소문자로 바꿔서 넘김
+    }
+
+    @Test
+    void skipsEmptyAndNonLabelWords() {
+        BlocklistMatcher matcher = BlocklistMatcher.compile(Set.of(), List.of("", "ad.min"), List.of());
+
+        assertFalse(contains(matcher, "abc"));
+        assertFalse(contains(matcher, "ad.min"));
+    }
+
+    @Test
+    void exactWordsMatchWholeLabel() {
+        BlocklistMatcher matcher = BlocklistMatcher.compile(Set.of("admin"), List.of(), List.of());
+
+        assertTrue(matcher.isExactBlocked("admin"));
+        assertFalse(matcher.isExactBlocked("admins"));
+        assertFalse(contains(matcher, "admin"));
+    }
+
+    private static boolean contains(BlocklistMatcher matcher, String label) {
+        int state = 0;
+        for (int i = 0; i < label.length(); i++) {
+            state = matcher.step(state, label.charAt(i));
+            if (matcher.isContainsMatch(state)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
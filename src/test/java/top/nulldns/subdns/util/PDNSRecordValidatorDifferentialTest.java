@@ -0,0 +1,223 @@
+package top.nulldns.subdns.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 이전 검증기(LegacyPDNSRecordValidator)와 같은 입력에 같은 결과를 내는지 비교
+ * 의도적으로 바뀐 동작(CNAME 차단 방식, IPv6 표기 일부)은 아래 개별 테스트로 확인
+ */
+class PDNSRecordValidatorDifferentialTest {
+    private static final long SEED = 20261019L;
+    private static final int ITERATIONS = 200_000;
+
+    private static final String LABEL_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789-----_.é";
+    private static final String DOMAIN_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789--......_";
+    private static final String IPV4_CHARS = "0123456789012345678901234567890123456789....a -+";
+    private static final String IPV6_CHARS = "0123456789abcdefABCDEF::::::::";
+
+    private static final List<String> LABEL_SEEDS = List.of(
+            "admin", "root", "master", "nulldns", "subdns", "official", "system", "www", "api", "test",
+            "sysadmin", "webmaster", "ADMIN", "Root", "xadminx", "roo", "admi", "mast", "nullDns"
+    );
+    private static final List<String> CNAME_TARGETS = List.of(
+            "googlehosted.com", "verify.microsoft.com", "github.io", "gitlab.io",
+            "awsapps.com", "acm-validations.aws", "pages.dev", "vercel-dns.com",
+            "netlify.app", "herokuapp.com", "amazonses.com", "sendgrid.net",
+            "mailgun.org", "firebaseapp.com", "supabase.co", "atlassian.net"
+    );
+
+    private final Random random = new Random(SEED);
+
+    @Test
+    void labelsMatchLegacy() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            String label = randomLabel();
+            assertEquals(LegacyPDNSRecordValidator.isValidLabel(label), PDNSRecordValidator.isValidLabel(label), label);
+            assertEquals(LegacyPDNSRecordValidator.isValidLabelAdmin(label), PDNSRecordValidator.isValidLabelAdmin(label), label);
+        }
+    }
+
+    @Test
+    void curatedLabelsMatchLegacy() {
+        List<String> labels = List.of(
+                "", "a", "abc", "abcd", "-abc", "abc-", "ab--cd", "ab-cd", "a-b-c-d", "ABCD", "AbCd",
+                "myadmin", "MyAdmin", "rootkit", "xmasterx", "my-nulldns", "officials", "www1", "api0",
+                "ab_c", "ab.cd", "abcé", "a".repeat(63), "a".repeat(64), "1234", "0000", "-", "--", "----"
+        );
+        for (String label : labels) {
+            assertEquals(LegacyPDNSRecordValidator.isValidLabel(label), PDNSRecordValidator.isValidLabel(label), label);
+            assertEquals(LegacyPDNSRecordValidator.isValidLabelAdmin(label), PDNSRecordValidator.isValidLabelAdmin(label), label);
+        }
+        for (String word : LABEL_SEEDS) {
+            assertEquals(LegacyPDNSRecordValidator.isValidLabel(word), PDNSRecordValidator.isValidLabel(word), word);
+        }
+    }
+
+    @Test
+    void ipv4MatchesLegacy() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            String ip = random.nextInt(4) == 0 ? randomDottedQuad() : randomString(IPV4_CHARS, 1 + random.nextInt(17));
+            assertEquals(LegacyPDNSRecordValidator.isIPv4(ip), PDNSRecordValidator.isIPv4(ip), ip);
+        }
+    }
+
+    @Test
+    void ipv6MatchesLegacy() {
+        // 16진수와 ':' 만 사용 - InetAddress 가 DNS 조회 없이 리터럴로만 해석하는 입력
+        for (int i = 0; i < ITERATIONS; i++) {
+            String ip = random.nextInt(3) == 0 ? randomIPv6() : randomString(IPV6_CHARS, 1 + random.nextInt(24));
+            if (hasLongHexRun(ip)) {
+                continue;
+            }
+            assertEquals(LegacyPDNSRecordValidator.isIPv6(ip), PDNSRecordValidator.isIPv6(ip), ip);
+        }
+    }
+
+    @Test
+    void curatedIPv6MatchesLegacy() {
+        List<String> ips = List.of(
+                "::", "::1", "1::", "1:", ":1", ":::", "1:::2", "1::2::3", "fe80::1", "2001:db8::8a2e:370:7334",
+                "1:2:3:4:5:6:7:8", "1:2:3:4:5:6:7:8:9", "1:2:3:4:5:6:7::", "::2:3:4:5:6:7:8", "1:2:3:4:5:6:7",
+                "::1.2.3.4", "::ffff:1.2.3.4", "::ffff:102:304", "0:0:0:0:0:ffff:1.2.3.4", "0:0::ffff:1.2.3.4",
+                "::fffe:1.2.3.4", "1:2:3:4:5:6:1.2.3.4", "1:2:3:4:5:6:7:1.2.3.4", "::1.2.3", "::256.1.1.1",
+                "::ffff:0:0", "::ffff", "ffff::", "0:0:0:0:0:ffff::", "ABCD:EF01::"
+        );
+        for (String ip : ips) {
+            assertEquals(LegacyPDNSRecordValidator.isIPv6(ip), PDNSRecordValidator.isIPv6(ip), ip);
+        }
+    }
+
+    @Test
+    void domainNamesMatchLegacy() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            String domain = randomString(DOMAIN_CHARS, 1 + random.nextInt(40));
+            if (containsBlockedTarget(domain)) {
+                continue;
+            }
+            assertEquals(LegacyPDNSRecordValidator.isValidDomainName(domain), PDNSRecordValidator.isValidDomainName(domain), domain);
+        }
+
+        List<String> domains = List.of(
+                "a", "a.", "a..", ".", ".a", "-a.com", "a-.com", "a.-b.com", "a.b-.com", "a--b.com", "a.b--c.com",
+                "example.com", "example.com.", "a".repeat(63) + ".com", "a".repeat(64) + ".com",
+                ("a".repeat(63) + ".").repeat(4), "EXAMPLE.Com", "a_b.com"
+        );
+        for (String domain : domains) {
+            assertEquals(LegacyPDNSRecordValidator.isValidDomainName(domain), PDNSRecordValidator.isValidDomainName(domain), domain);
+        }
+    }
+
+    @Test
+    void validateMatchesLegacy() {
+        String[][] cases = {
+                {"A", "1.2.3.4"}, {"A", "01.2.3.4"}, {"AAAA", "::1"}, {"AAAA", "1.2.3.4"}, {"CNAME", "example.com"},
+                {"TXT", "x".repeat(255)}, {"TXT", "x".repeat(256)}, {"MX", "example.com"}, {"a", "1.2.3.4"}
+        };
+        for (String[] c : cases) {
+            assertEquals(LegacyPDNSRecordValidator.validate(c[0], c[1], "nulldns.top", false),
+                    PDNSRecordValidator.validate(c[0], c[1], "nulldns.top", false), c[0] + " " + c[1]);
+        }
+    }
+
+    @Test
+    void blockedTargetsMatchOnLabelBoundary() {
+        assertFalse(PDNSRecordValidator.isValidDomainName("github.io"));
+        assertFalse(PDNSRecordValidator.isValidDomainName("user.github.io"));
+        assertFalse(PDNSRecordValidator.isValidDomainName("user.github.io."));
+        assertFalse(PDNSRecordValidator.isValidDomainName("User.GitHub.IO"));
+        assertFalse(PDNSRecordValidator.isValidDomainName("x.verify.microsoft.com"));
+
+        assertTrue(PDNSRecordValidator.isValidDomainName("mygithub.io"));
+        assertTrue(PDNSRecordValidator.isValidDomainName("github.io.example.com"));
+        assertTrue(PDNSRecordValidator.isValidDomainName("microsoft.com"));
+    }
+
+    @Test
+    void ipv6RejectsNonRecordForms() {
+        assertFalse(PDNSRecordValidator.isIPv6("[::1]"));
+        assertFalse(PDNSRecordValidator.isIPv6("fe80::1%eth0"));
+        assertFalse(PDNSRecordValidator.isIPv6("00001::"));
+        assertFalse(PDNSRecordValidator.isIPv6("::01.2.3.4"));
+        assertFalse(PDNSRecordValidator.isIPv6(null));
+        assertFalse(PDNSRecordValidator.isIPv4(null));
+    }
+
+    private String randomLabel() {
+        int kind = random.nextInt(4);
+        if (kind == 0) {
+            String word = LABEL_SEEDS.get(random.nextInt(LABEL_SEEDS.size()));
+            return randomString(LABEL_CHARS, random.nextInt(4)) + word + randomString(LABEL_CHARS, random.nextInt(4));
+        }
+        return randomString(LABEL_CHARS, random.nextInt(kind == 1 ? 70 : 10));
+    }
+
+    private String randomDottedQuad() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 4; i++) {
+            if (i > 0) sb.append('.');
+            int octet = random.nextInt(300);
+            sb.append(random.nextInt(10) == 0 ? "0" + octet : String.valueOf(octet));
+        }
+        return sb.toString();
+    }
+
+    // 유효한 주소를 만든 뒤 일부를 '::' 로 압축 (가끔 끝 32비트를 IPv4 표기로)
+    private String randomIPv6() {
+        boolean embedded = random.nextInt(4) == 0;
+        int groupCount = embedded ? 6 : 8;
+        String[] groups = new String[groupCount];
+        for (int i = 0; i < groupCount; i++) {
+            groups[i] = random.nextInt(3) == 0 ? "0" : Integer.toHexString(random.nextInt(0x10000));
+        }
+
+        int from = random.nextInt(groupCount + 1);
+        int to = random.nextBoolean() ? from : from + random.nextInt(groupCount - from + 1);
+
+        StringBuilder sb = new StringBuilder();
+        if (from == to) {
+            sb.append(String.join(":", groups));
+        } else {
+            sb.append(String.join(":", List.of(groups).subList(0, from))).append("::")
+                    .append(String.join(":", List.of(groups).subList(to, groupCount)));
+        }
+        if (embedded) {
+            if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ':') sb.append(':');
+            sb.append(random.nextInt(256)).append('.').append(random.nextInt(256)).append('.')
+                    .append(random.nextInt(256)).append('.').append(random.nextInt(256));
+        }
+        return sb.toString();
+    }
+
+    private String randomString(String alphabet, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    private static boolean hasLongHexRun(String ip) {
+        int run = 0;
+        for (int i = 0; i < ip.length(); i++) {
+            run = ip.charAt(i) == ':' ? 0 : run + 1;
+            if (run > 4) return true;
+        }
+        return false;
+    }
+
+    private static boolean containsBlockedTarget(String domain) {
+        String lower = domain.toLowerCase(Locale.ROOT);
+        for (String target : CNAME_TARGETS) {
+            if (lower.contains(target)) return true;
+        }
+        return false;
+    }
+}
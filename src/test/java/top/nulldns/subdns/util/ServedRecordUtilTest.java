@@ -0,0 +1,39 @@
+package top.nulldns.subdns.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 응답중인 rrset 과 DB 레코드 비교 경계 확인
+ */
+class ServedRecordUtilTest {
+
+    @Test
+    void toFullDomainLowercasesAndStripsDot() {
+        assertEquals("www.nulldns.top", ServedRecordUtil.toFullDomain("WWW.NullDNS.top."));
+        assertEquals("www.nulldns.top", ServedRecordUtil.toFullDomain("www.nulldns.top"));
+    }
+
+    @Test
+    void txtIsCaseSensitive() {
+        assertTrue(ServedRecordUtil.sameContent("TXT", "\"Hello\"", List.of("\"Hello\"")));
+        assertFalse(ServedRecordUtil.sameContent("TXT", "\"Hello\"", List.of("\"hello\"")));
+    }
+
+    @Test
+    void otherTypesIgnoreCase() {
+        assertTrue(ServedRecordUtil.sameContent("CNAME", "Target.Example.com.", List.of("target.example.com.")));
+        assertTrue(ServedRecordUtil.sameContent("AAAA", "2001:DB8::1", List.of("2001:db8::1")));
+    }
+
+    @Test
+    void requiresExactlyOneServedValue() {
+        assertFalse(ServedRecordUtil.sameContent("A", "1.2.3.4", List.of()));
+        assertFalse(ServedRecordUtil.sameContent("A", "1.2.3.4", List.of("1.2.3.4", "5.6.7.8")));
+    }
+}